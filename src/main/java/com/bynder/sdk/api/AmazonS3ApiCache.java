@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ */
+package com.bynder.sdk.api;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import okhttp3.Authenticator;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * Cache of {@link AmazonS3Api} clients keyed by Amazon S3 bucket URL. All the clients share the
+ * connection pool and dispatcher of the HTTP client the cache was created with, so keep-alive
+ * connections and TLS sessions to Amazon S3 are reused across uploads instead of being
+ * established again for every file.
+ */
+public class AmazonS3ApiCache {
+
+    /**
+     * HTTP client used by all the Amazon S3 clients.
+     */
+    private final OkHttpClient httpClient;
+    /**
+     * Amazon S3 clients already created, by bucket URL.
+     */
+    private final ConcurrentMap<String, AmazonS3Api> amazonS3Clients;
+
+    /**
+     * Initialises a new instance of the class.
+     *
+     * @param httpClient HTTP client whose connection pool, dispatcher and connection settings are
+     * shared by the Amazon S3 clients. Its interceptors and its authenticator are not applied to
+     * the requests sent to Amazon S3, as they are meant for the communication with Bynder, and
+     * HTTP/2 prior knowledge is replaced by the default protocols. Failed chunks are retried by
+     * the {@link com.bynder.sdk.service.upload.FileUploader}, not by a {@link RetryInterceptor}.
+     */
+    public AmazonS3ApiCache(final OkHttpClient httpClient) {
+        OkHttpClient.Builder httpClientBuilder = httpClient.newBuilder();
+        httpClientBuilder.interceptors().clear();
+        httpClientBuilder.networkInterceptors().clear();
+        httpClientBuilder.authenticator(Authenticator.NONE);
+        // HTTP/2 prior knowledge is only meant for a gateway in front of Bynder
+        if (httpClient.protocols().contains(Protocol.H2_PRIOR_KNOWLEDGE)) {
+            httpClientBuilder.protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1));
+        }
+
+        this.httpClient = httpClientBuilder.build();
+        this.amazonS3Clients = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the HTTP client used by all the Amazon S3 clients.
+     *
+     * @return HTTP client derived from the one the cache was created with.
+     */
+    OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Gets the client for an Amazon S3 bucket, creating it the first time the bucket is used.
+     *
+     * @param bucket AWS bucket URL.
+     * @return Implementation instance of the {@link AmazonS3Api} interface.
+     */
+    public AmazonS3Api get(final String bucket) {
+        return amazonS3Clients
+            .computeIfAbsent(bucket, key -> ApiFactory.createAmazonS3Client(key, httpClient));
+    }
+}
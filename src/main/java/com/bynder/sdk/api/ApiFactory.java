@@ -8,21 +8,24 @@ package com.bynder.sdk.api;
 
 import com.bynder.sdk.configuration.Configuration;
 import com.bynder.sdk.configuration.HttpConnectionSettings;
-import com.bynder.sdk.exception.BynderRuntimeException;
-import com.bynder.sdk.model.oauth.Token;
-import com.bynder.sdk.service.BynderClient;
+import com.bynder.sdk.query.decoder.QueryDecoder;
 import com.bynder.sdk.service.oauth.OAuthService;
+import com.bynder.sdk.service.oauth.TokenManager;
 import com.bynder.sdk.util.BooleanTypeAdapter;
 import com.bynder.sdk.util.StringConverterFactory;
-import com.bynder.sdk.util.Utils;
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import java.io.IOException;
 import java.util.concurrent.TimeUnit;
+import okhttp3.Authenticator;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
 import okhttp3.OkHttpClient.Builder;
 import okhttp3.Request;
 import okhttp3.Response;
+import okhttp3.Route;
 import okhttp3.logging.HttpLoggingInterceptor;
 import retrofit2.Retrofit;
 import retrofit2.adapter.rxjava2.RxJava2CallAdapterFactory;
@@ -33,6 +36,11 @@ import retrofit2.converter.gson.GsonConverterFactory;
  */
 public class ApiFactory {
 
+    /**
+     * Prefix of the Authorization header value.
+     */
+    private static final String BEARER_PREFIX = "Bearer ";
+
     /**
      * Prevents the instantiation of the class.
      */
@@ -46,66 +54,201 @@ public class ApiFactory {
      * @return Implementation instance of the {@link BynderApi} interface.
      */
     public static BynderApi createBynderClient(final Configuration configuration) {
-        GsonBuilder gsonBuilder = new GsonBuilder();
-        gsonBuilder.registerTypeAdapter(Boolean.class, new BooleanTypeAdapter());
+        return createBynderClient(configuration, createOkHttpClient(configuration));
+    }
 
+    /**
+     * Creates an implementation of the Bynder API endpoints defined in the {@link BynderApi}
+     * interface, using the specified HTTP client.
+     *
+     * @param configuration {@link Configuration} settings for the HTTP communication with Bynder.
+     * @param httpClient HTTP client created by
+     * {@link ApiFactory#createOkHttpClient(Configuration)}.
+     * @return Implementation instance of the {@link BynderApi} interface.
+     */
+    public static BynderApi createBynderClient(final Configuration configuration,
+        final OkHttpClient httpClient) {
         Retrofit.Builder retrofitBuilder = new Retrofit.Builder()
             .baseUrl(configuration.getBaseUrl().toString())
             .addCallAdapterFactory(RxJava2CallAdapterFactory.create())
             .addConverterFactory(new StringConverterFactory())
-            .addConverterFactory(GsonConverterFactory.create(gsonBuilder.create()));
+            .addConverterFactory(GsonConverterFactory.create(createGson()));
 
-        Retrofit retrofit = retrofitBuilder.client(createOkHttpClient(configuration)).build();
+        Retrofit retrofit = retrofitBuilder.client(httpClient).build();
         return retrofit.create(BynderApi.class);
     }
 
     /**
-     * Creates an implementation of the Bynder OAuth2 endpoints defined in the {@link OAuthApi}
+     * Creates an implementation of the Amazon S3 endpoints defined in the {@link AmazonS3Api}
      * interface.
      *
      * @param bucket AWS bucket URL.
-     * @return Implementation instance of the {@link OAuthApi} interface.
+     * @return Implementation instance of the {@link AmazonS3Api} interface.
      */
     public static AmazonS3Api createAmazonS3Client(final String bucket) {
+        return createAmazonS3Client(bucket, new OkHttpClient());
+    }
+
+    /**
+     * Creates an implementation of the Amazon S3 endpoints defined in the {@link AmazonS3Api}
+     * interface, using the specified HTTP client.
+     *
+     * @param bucket AWS bucket URL.
+     * @param httpClient HTTP client used for the requests to Amazon S3.
+     * @return Implementation instance of the {@link AmazonS3Api} interface.
+     */
+    public static AmazonS3Api createAmazonS3Client(final String bucket,
+        final OkHttpClient httpClient) {
         Retrofit.Builder retrofitBuilder = new Retrofit.Builder().baseUrl(bucket)
             .addCallAdapterFactory(RxJava2CallAdapterFactory.create());
 
-        Retrofit retrofit = retrofitBuilder.build();
+        Retrofit retrofit = retrofitBuilder.client(httpClient).build();
         return retrofit.create(AmazonS3Api.class);
     }
 
     /**
-     * Creates an implementation of the Amazon S3 endpoints defined in the {@link AmazonS3Api}
+     * Creates an implementation of the Bynder OAuth2 endpoints defined in the {@link OAuthApi}
      * interface.
      *
      * @param baseUrl Bynder portal base URL.
      * @return Implementation instance of the {@link OAuthApi} interface.
      */
     public static OAuthApi createOAuthClient(final String baseUrl) {
+        return createOAuthClient(baseUrl, new OkHttpClient());
+    }
+
+    /**
+     * Creates an implementation of the Bynder OAuth2 endpoints defined in the {@link OAuthApi}
+     * interface, using an HTTP client derived from the specified one.
+     *
+     * @param baseUrl Bynder portal base URL.
+     * @param httpClient HTTP client created by
+     * {@link ApiFactory#createRootOkHttpClient(HttpConnectionSettings)}.
+     * @return Implementation instance of the {@link OAuthApi} interface.
+     */
+    public static OAuthApi createOAuthClient(final String baseUrl,
+        final OkHttpClient httpClient) {
         Retrofit.Builder retrofitBuilder = new Retrofit.Builder().baseUrl(baseUrl)
             .addCallAdapterFactory(RxJava2CallAdapterFactory.create())
             .addConverterFactory(GsonConverterFactory.create());
 
-        Retrofit retrofit = retrofitBuilder.build();
+        Retrofit retrofit = retrofitBuilder.client(createOAuthHttpClient(httpClient)).build();
         return retrofit.create(OAuthApi.class);
     }
 
     /**
-     * Creates an instance of {@link OkHttpClient}.
+     * Creates the {@link OkHttpClient} used for the OAuth2 endpoints, sharing the connection
+     * pool, dispatcher and connection settings of the specified client. Only its
+     * {@link RetryInterceptor} and {@link RateLimiter} are kept: the logging and custom
+     * interceptors would otherwise see the client secret, refresh token and access tokens
+     * exchanged with the token endpoint.
+     *
+     * @param httpClient HTTP client created by
+     * {@link ApiFactory#createRootOkHttpClient(HttpConnectionSettings)}.
+     * @return {@link OkHttpClient} instance used for the OAuth2 requests.
+     */
+    static OkHttpClient createOAuthHttpClient(final OkHttpClient httpClient) {
+        OkHttpClient.Builder httpClientBuilder = httpClient.newBuilder();
+        httpClientBuilder.interceptors().removeIf(interceptor ->
+            !(interceptor instanceof RetryInterceptor || interceptor instanceof RateLimiter));
+        httpClientBuilder.networkInterceptors().clear();
+
+        return httpClientBuilder.build();
+    }
+
+    /**
+     * Creates the {@link Gson} instance used to deserialise the responses of the Bynder API.
+     *
+     * @return {@link Gson} instance with the type adapters needed by the Bynder API models.
+     */
+    public static Gson createGson() {
+        GsonBuilder gsonBuilder = new GsonBuilder();
+        gsonBuilder.registerTypeAdapter(Boolean.class, new BooleanTypeAdapter());
+        return gsonBuilder.create();
+    }
+
+    /**
+     * Creates an instance of {@link OkHttpClient}. If OAuth is used, the access token is
+     * refreshed through an {@link OAuthService} created once for the HTTP client.
      *
      * @param configuration Configuration settings for the HTTP communication with Bynder.
      * @return {@link OkHttpClient} instance used for API requests.
      */
-    private static OkHttpClient createOkHttpClient(final Configuration configuration) {
-        OkHttpClient.Builder httpClientBuilder = new OkHttpClient.Builder();
+    public static OkHttpClient createOkHttpClient(final Configuration configuration) {
+        OkHttpClient rootHttpClient = createRootOkHttpClient(
+            configuration.getHttpConnectionSettings());
+        TokenManager tokenManager = null;
+        if (configuration.getPermanentToken() == null) {
+            OAuthService oauthService = OAuthService.Builder.create(configuration,
+                createOAuthClient(configuration.getBaseUrl().toString(), rootHttpClient),
+                new QueryDecoder());
+            tokenManager = new TokenManager(configuration.getOAuthSettings(),
+                oauthService::refreshAccessToken);
+        }
+
+        return createOkHttpClient(rootHttpClient, configuration, tokenManager);
+    }
+
+    /**
+     * Creates an instance of {@link OkHttpClient} getting the OAuth access token from the
+     * specified token manager.
+     *
+     * @param configuration Configuration settings for the HTTP communication with Bynder.
+     * @param tokenManager Token manager providing the access token, if OAuth is used.
+     * @return {@link OkHttpClient} instance used for API requests.
+     */
+    public static OkHttpClient createOkHttpClient(final Configuration configuration,
+        final TokenManager tokenManager) {
+        return createOkHttpClient(
+            createRootOkHttpClient(configuration.getHttpConnectionSettings()), configuration,
+            tokenManager);
+    }
+
+    /**
+     * Creates an instance of {@link OkHttpClient} derived from a root HTTP client, getting the
+     * OAuth access token from the specified token manager. The new client shares the connection
+     * pool, dispatcher and connection settings of the root client.
+     *
+     * @param rootHttpClient HTTP client created by
+     * {@link ApiFactory#createRootOkHttpClient(HttpConnectionSettings)}.
+     * @param configuration Configuration settings for the HTTP communication with Bynder.
+     * @param tokenManager Token manager providing the access token, if OAuth is used.
+     * @return {@link OkHttpClient} instance used for API requests.
+     */
+    public static OkHttpClient createOkHttpClient(final OkHttpClient rootHttpClient,
+        final Configuration configuration, final TokenManager tokenManager) {
+        OkHttpClient.Builder httpClientBuilder = rootHttpClient.newBuilder();
 
         if (configuration.getPermanentToken() == null) {
-            setOAuthInterceptor(httpClientBuilder, configuration);
+            setOAuthInterceptor(httpClientBuilder, tokenManager);
         } else {
             setPermanentTokenInterceptor(httpClientBuilder, configuration);
         }
 
-        HttpConnectionSettings httpConnectionSettings = configuration.getHttpConnectionSettings();
+        // responses are gzip compressed through the Accept-Encoding header added by OkHttp
+        CompressionMetrics compressionMetrics = configuration.getHttpConnectionSettings()
+            .getCompressionMetrics();
+        if (compressionMetrics != null) {
+            httpClientBuilder.addInterceptor(compressionMetrics.createApplicationInterceptor());
+            httpClientBuilder
+                .addNetworkInterceptor(compressionMetrics.createNetworkInterceptor());
+        }
+
+        return httpClientBuilder.build();
+    }
+
+    /**
+     * Creates the root {@link OkHttpClient} of a Bynder client, without authentication. The
+     * HTTP clients used for the Bynder API, the OAuth2 endpoints and Amazon S3 are derived from
+     * it, so they all share a single connection pool and dispatcher.
+     *
+     * @param httpConnectionSettings HTTP connection settings for the HTTP communication with
+     * Bynder.
+     * @return Root {@link OkHttpClient} instance.
+     */
+    public static OkHttpClient createRootOkHttpClient(
+        final HttpConnectionSettings httpConnectionSettings) {
+        OkHttpClient.Builder httpClientBuilder = new OkHttpClient.Builder();
         setHttpConnectionSettings(httpClientBuilder, httpConnectionSettings);
 
         return httpClientBuilder.build();
@@ -113,34 +256,21 @@ public class ApiFactory {
 
     /**
      * Sets the OAuth interceptor for the HTTP client. This interceptor will handle adding the
-     * access token to the request header and refreshing it when it expires.
+     * access token to the request header and refreshing it when it expires, through a
+     * {@link TokenManager} shared by all the requests of the client. If Bynder still rejects the
+     * access token, the authenticator refreshes it and retries the request once.
      *
      * @param httpClientBuilder Builder instance of the HTTP client.
-     * @param configuration {@link Configuration} settings for the HTTP communication with Bynder.
+     * @param tokenManager Token manager providing the access token.
      */
     private static void setOAuthInterceptor(final Builder httpClientBuilder,
-        final Configuration configuration) {
-        httpClientBuilder.addInterceptor(new Interceptor() {
+        final TokenManager tokenManager) {
+        // added first, so the logging and custom interceptors see the Authorization header
+        httpClientBuilder.interceptors().add(0, new Interceptor() {
 
             @Override
             public Response intercept(final Chain chain) throws IOException {
-                if (configuration.getOAuthSettings().getToken() == null) {
-                    throw new BynderRuntimeException("Token is not defined in Configuration");
-                }
-
-                // check if access token is expiring in the next 15 seconds
-                if (Utils.isDateExpiring(configuration.getOAuthSettings().getToken().getAccessTokenExpiration(), 15)) {
-                    // refresh the access token
-                    OAuthService oAuthService = BynderClient.Builder.create(configuration)
-                        .getOAuthService();
-                    Token token = oAuthService.refreshAccessToken().blockingSingle();
-
-                    // trigger callback method
-                    configuration.getOAuthSettings().callback(token);
-                }
-
-                String headerValue = String
-                    .format("%s %s", "Bearer", configuration.getOAuthSettings().getToken().getAccessToken());
+                String headerValue = BEARER_PREFIX + tokenManager.getAccessToken();
 
                 Request.Builder requestBuilder = chain.request().newBuilder()
                     .header("Authorization", headerValue);
@@ -149,6 +279,34 @@ public class ApiFactory {
                 return chain.proceed(request);
             }
         });
+
+        httpClientBuilder.authenticator(new Authenticator() {
+
+            @Override
+            public Request authenticate(final Route route, final Response response) {
+                // the request was already retried with a refreshed access token
+                if (response.priorResponse() != null) {
+                    return null;
+                }
+
+                String rejectedHeaderValue = response.request().header("Authorization");
+                if (rejectedHeaderValue == null || !rejectedHeaderValue.startsWith(BEARER_PREFIX)) {
+                    return null;
+                }
+
+                String accessToken;
+                try {
+                    accessToken = tokenManager.refreshRejectedAccessToken(
+                        rejectedHeaderValue.substring(BEARER_PREFIX.length()));
+                } catch (RuntimeException e) {
+                    // the unauthorised response is returned to the caller
+                    return null;
+                }
+
+                return response.request().newBuilder()
+                    .header("Authorization", BEARER_PREFIX + accessToken).build();
+            }
+        });
     }
 
     /**
@@ -160,7 +318,7 @@ public class ApiFactory {
     */
     private static void setPermanentTokenInterceptor(final Builder httpClientBuilder,
         final Configuration configuration) {
-        httpClientBuilder.addInterceptor(new Interceptor() {
+        httpClientBuilder.interceptors().add(0, new Interceptor() {
 
             @Override
             public Response intercept(final Chain chain) throws IOException {
@@ -194,6 +352,18 @@ public class ApiFactory {
             httpClientBuilder.addInterceptor(httpConnectionSettings.getCustomInterceptor());
         }
 
+        // retries go through the rate limiter, so they also wait for a permit
+        httpClientBuilder.addInterceptor(
+            new RetryInterceptor(httpConnectionSettings.getRetryPolicy(),
+                httpConnectionSettings.getEndpointRetryPolicies()));
+
+        // shared by the requests to the Bynder API and the OAuth2 endpoints
+        if (httpConnectionSettings.getMaxRequestsPerSecond() > 0) {
+            httpClientBuilder.addInterceptor(
+                new RateLimiter(httpConnectionSettings.getMaxRequestsPerSecond(),
+                    httpConnectionSettings.getRateLimitBurst()));
+        }
+
         httpClientBuilder
             .retryOnConnectionFailure(httpConnectionSettings.isRetryOnConnectionFailure());
         httpClientBuilder
@@ -203,6 +373,18 @@ public class ApiFactory {
         httpClientBuilder
             .writeTimeout(httpConnectionSettings.getConnectTimeoutSeconds(), TimeUnit.SECONDS);
 
+        httpClientBuilder.connectionPool(
+            new ConnectionPool(httpConnectionSettings.getMaxIdleConnections(),
+                httpConnectionSettings.getKeepAliveDurationSeconds(), TimeUnit.SECONDS));
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(httpConnectionSettings.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(httpConnectionSettings.getMaxRequestsPerHost());
+        httpClientBuilder.dispatcher(dispatcher);
+
+        if (httpConnectionSettings.getProtocols() != null) {
+            httpClientBuilder.protocols(httpConnectionSettings.getProtocols());
+        }
+
         if (httpConnectionSettings.getSslContext() != null
             && httpConnectionSettings.getTrustManager() != null) {
             httpClientBuilder
@@ -22,6 +22,7 @@ import com.bynder.sdk.model.upload.UploadRequest;
 import io.reactivex.Observable;
 import java.util.List;
 import java.util.Map;
+import okhttp3.ResponseBody;
 import retrofit2.Response;
 import retrofit2.http.DELETE;
 import retrofit2.http.FieldMap;
@@ -30,6 +31,7 @@ import retrofit2.http.GET;
 import retrofit2.http.POST;
 import retrofit2.http.Path;
 import retrofit2.http.QueryMap;
+import retrofit2.http.Streaming;
 
 /**
  * Interface of the Bynder API to handle the HTTP communication.
@@ -79,6 +81,17 @@ public interface BynderApi {
     @GET("/api/v4/media/")
     Observable<Response<List<Media>>> getMediaList(@QueryMap Map<String, String> params);
 
+    /**
+     * Gets a list of media assets filtered by parameters, without reading the response body. The
+     * body is a JSON array of media, to be read as a stream by the caller, which must close it.
+     *
+     * @param params {@link QueryMap} with parameters.
+     * @return {@link Observable} with the unread {@link ResponseBody}.
+     */
+    @Streaming
+    @GET("/api/v4/media/")
+    Observable<Response<ResponseBody>> getMediaListStream(@QueryMap Map<String, String> params);
+
     /**
      * Gets all the media information for a specific media id.
      *
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ */
+package com.bynder.sdk.api;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Source of time of the interceptors waiting between requests, replaced in tests.
+ */
+interface Clock {
+
+    /**
+     * Clock based on {@link System#nanoTime()} and {@link Thread#sleep(long, int)}.
+     */
+    Clock SYSTEM = new Clock() {
+
+        @Override
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+
+        @Override
+        public void sleep(final long nanos) throws InterruptedException {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        }
+    };
+
+    /**
+     * Gets the current time.
+     *
+     * @return Current time in nanoseconds, only meaningful to compute elapsed times.
+     */
+    long nanoTime();
+
+    /**
+     * Waits for a time.
+     *
+     * @param nanos Time to wait in nanoseconds.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    void sleep(long nanos) throws InterruptedException;
+}
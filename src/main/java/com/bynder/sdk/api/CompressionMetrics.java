@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ */
+package com.bynder.sdk.api;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+import retrofit2.Invocation;
+
+/**
+ * Counts, per {@link BynderApi} endpoint, the bytes of the response bodies received from Bynder
+ * as sent on the wire and after decompression. The responses are gzip compressed when Bynder
+ * supports it, as the HTTP client asks for it transparently, so comparing both counters shows the
+ * bandwidth saved.
+ *
+ * <p>Bytes are counted as the response bodies are read, without buffering them, so bodies that
+ * are not fully read are only partially counted.
+ */
+public class CompressionMetrics {
+
+    /**
+     * Bytes received on the wire, by endpoint.
+     */
+    private final ConcurrentMap<String, LongAdder> compressedBytes = new ConcurrentHashMap<>();
+    /**
+     * Bytes read after decompression, by endpoint.
+     */
+    private final ConcurrentMap<String, LongAdder> decompressedBytes = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the endpoints for which responses have been read.
+     *
+     * @return Names of the {@link BynderApi} methods called, or the request paths for requests
+     * not sent through {@link BynderApi}.
+     */
+    public Set<String> getEndpoints() {
+        return Collections.unmodifiableSet(decompressedBytes.keySet());
+    }
+
+    /**
+     * Gets the bytes of the response bodies of an endpoint, as received on the wire.
+     *
+     * @param endpoint Name of the {@link BynderApi} method.
+     * @return Number of compressed bytes.
+     */
+    public long getCompressedBytes(final String endpoint) {
+        return sum(compressedBytes, endpoint);
+    }
+
+    /**
+     * Gets the bytes of the response bodies of an endpoint, after decompression.
+     *
+     * @param endpoint Name of the {@link BynderApi} method.
+     * @return Number of decompressed bytes.
+     */
+    public long getDecompressedBytes(final String endpoint) {
+        return sum(decompressedBytes, endpoint);
+    }
+
+    /**
+     * Creates the network interceptor counting the bytes received on the wire. It must be added
+     * with {@link okhttp3.OkHttpClient.Builder#addNetworkInterceptor(Interceptor)}.
+     *
+     * @return Network interceptor.
+     */
+    public Interceptor createNetworkInterceptor() {
+        return chain -> countBytes(chain.proceed(chain.request()), compressedBytes);
+    }
+
+    /**
+     * Creates the application interceptor counting the bytes after decompression. It must be
+     * added with {@link okhttp3.OkHttpClient.Builder#addInterceptor(Interceptor)}.
+     *
+     * @return Application interceptor.
+     */
+    public Interceptor createApplicationInterceptor() {
+        return chain -> countBytes(chain.proceed(chain.request()), decompressedBytes);
+    }
+
+    /**
+     * Wraps the body of a response so the bytes read from it are added to a counter of its
+     * endpoint.
+     *
+     * @param response Response received.
+     * @param counters Counters by endpoint.
+     * @return Response with the wrapped body.
+     */
+    private static Response countBytes(final Response response,
+        final ConcurrentMap<String, LongAdder> counters) {
+        ResponseBody body = response.body();
+        if (body == null) {
+            return response;
+        }
+
+        LongAdder counter = counters
+            .computeIfAbsent(getEndpoint(response.request()), key -> new LongAdder());
+        ForwardingSource countingSource = new ForwardingSource(body.source()) {
+
+            @Override
+            public long read(final Buffer sink, final long byteCount) throws IOException {
+                long bytesRead = super.read(sink, byteCount);
+                if (bytesRead > 0) {
+                    counter.add(bytesRead);
+                }
+                return bytesRead;
+            }
+        };
+
+        return response.newBuilder().body(ResponseBody
+            .create(body.contentType(), body.contentLength(), Okio.buffer(countingSource)))
+            .build();
+    }
+
+    /**
+     * Gets the endpoint of a request.
+     *
+     * @param request Request sent.
+     * @return Name of the {@link BynderApi} method that created the request, or the request path.
+     */
+    private static String getEndpoint(final Request request) {
+        Invocation invocation = request.tag(Invocation.class);
+        return invocation != null ? invocation.method().getName() : request.url().encodedPath();
+    }
+
+    /**
+     * Gets the value of the counter of an endpoint.
+     *
+     * @param counters Counters by endpoint.
+     * @param endpoint Endpoint.
+     * @return Value of the counter, 0 if no response of the endpoint has been read.
+     */
+    private static long sum(final ConcurrentMap<String, LongAdder> counters,
+        final String endpoint) {
+        LongAdder counter = counters.get(endpoint);
+        return counter != null ? counter.sum() : 0;
+    }
+}
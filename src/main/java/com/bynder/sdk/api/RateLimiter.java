@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ */
+package com.bynder.sdk.api;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Interceptor limiting the rate of the requests sent to Bynder with a token bucket: requests
+ * wait for a permit, permits are added at the configured rate and up to burst permits can be
+ * accumulated while the client is idle.
+ *
+ * <p>When Bynder answers with 429 Too Many Requests, all the requests are paused for the time
+ * given by its Retry-After header, the rate is halved and the rejected request is sent again.
+ * Every successful response then raises the rate back towards the configured one, so the client
+ * settles right below the rate limit of the portal.
+ */
+public class RateLimiter implements Interceptor {
+
+    /**
+     * Max number of times a request rejected with 429 Too Many Requests is sent again.
+     */
+    public static final int MAX_RATE_LIMITED_RETRIES = 3;
+    /**
+     * Status code of the responses to requests over the rate limit.
+     */
+    static final int TOO_MANY_REQUESTS = 429;
+    /**
+     * Time to wait when a 429 response has no valid Retry-After header.
+     */
+    static final long DEFAULT_RETRY_AFTER_MILLIS = 1000;
+    /**
+     * Factor applied to the rate when a request is rejected.
+     */
+    private static final double RATE_DECREASE_FACTOR = 0.5;
+    /**
+     * Fraction of the configured rate added back after every successful response.
+     */
+    private static final double RATE_INCREASE_FRACTION = 0.01;
+    /**
+     * Lowest fraction of the configured rate the rate can be decreased to.
+     */
+    private static final double MIN_RATE_FRACTION = 0.1;
+
+    /**
+     * Max number of requests per second, as configured.
+     */
+    private final double maxRequestsPerSecond;
+    /**
+     * Max number of permits accumulated.
+     */
+    private final int burst;
+    /**
+     * Source of time, replaced in tests.
+     */
+    private final Clock clock;
+    /**
+     * Current number of requests per second.
+     */
+    private double requestsPerSecond;
+    /**
+     * Permits available. Negative when requests are waiting for permits.
+     */
+    private double availablePermits;
+    /**
+     * Time in nanoseconds up to which permits have been added. In the future while requests are
+     * paused after a 429 response.
+     */
+    private long refilledUntilNanos;
+
+    /**
+     * Initialises a new instance of the class.
+     *
+     * @param requestsPerSecond Max number of requests per second.
+     * @param burst Max number of requests sent at once after the client has been idle.
+     */
+    public RateLimiter(final double requestsPerSecond, final int burst) {
+        this(requestsPerSecond, burst, Clock.SYSTEM);
+    }
+
+    /**
+     * Initialises a new instance of the class.
+     *
+     * @param requestsPerSecond Max number of requests per second.
+     * @param burst Max number of requests sent at once after the client has been idle.
+     * @param clock Source of time.
+     */
+    RateLimiter(final double requestsPerSecond, final int burst, final Clock clock) {
+        if (!(requestsPerSecond > 0) || burst < 1) {
+            throw new IllegalArgumentException(String.format(
+                "Invalid rate limit: %s requests per second, burst %d", requestsPerSecond, burst));
+        }
+        this.maxRequestsPerSecond = requestsPerSecond;
+        this.burst = burst;
+        this.clock = clock;
+        this.requestsPerSecond = requestsPerSecond;
+        this.availablePermits = burst;
+        this.refilledUntilNanos = clock.nanoTime();
+    }
+
+    /**
+     * Gets the current number of requests per second, lowered after 429 responses.
+     *
+     * @return Number of requests per second.
+     */
+    public synchronized double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    @Override
+    public Response intercept(final Chain chain) throws IOException {
+        Request request = chain.request();
+        for (int retries = 0; ; retries++) {
+            acquire();
+            Response response = chain.proceed(request);
+            if (response.code() != TOO_MANY_REQUESTS) {
+                onAccepted();
+                return response;
+            }
+
+            onRateLimited(getRetryAfterMillis(response));
+            if (retries == MAX_RATE_LIMITED_RETRIES) {
+                return response;
+            }
+            response.close();
+        }
+    }
+
+    /**
+     * Takes a permit, waiting until it is available.
+     *
+     * @throws InterruptedIOException If the thread is interrupted while waiting.
+     */
+    private void acquire() throws InterruptedIOException {
+        long waitNanos;
+        synchronized (this) {
+            long nowNanos = clock.nanoTime();
+            refill(nowNanos);
+            availablePermits--;
+            waitNanos = Math.max(0, refilledUntilNanos - nowNanos);
+            if (availablePermits < 0) {
+                waitNanos += (long) (-availablePermits / requestsPerSecond
+                    * TimeUnit.SECONDS.toNanos(1));
+            }
+        }
+
+        if (waitNanos > 0) {
+            try {
+                clock.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the rate limit");
+            }
+        }
+    }
+
+    /**
+     * Adds the permits generated since the last refill.
+     *
+     * @param nowNanos Current time in nanoseconds.
+     */
+    private void refill(final long nowNanos) {
+        if (nowNanos <= refilledUntilNanos) {
+            return;
+        }
+        availablePermits = Math.min(burst, availablePermits
+            + (nowNanos - refilledUntilNanos) * requestsPerSecond / TimeUnit.SECONDS.toNanos(1));
+        refilledUntilNanos = nowNanos;
+    }
+
+    /**
+     * Raises the rate after a request was accepted.
+     */
+    private synchronized void onAccepted() {
+        refill(clock.nanoTime());
+        requestsPerSecond = Math.min(maxRequestsPerSecond,
+            requestsPerSecond + maxRequestsPerSecond * RATE_INCREASE_FRACTION);
+    }
+
+    /**
+     * Lowers the rate and pauses the requests after a request was rejected.
+     *
+     * @param retryAfterMillis Time in milliseconds to wait before sending new requests.
+     */
+    private synchronized void onRateLimited(final long retryAfterMillis) {
+        long nowNanos = clock.nanoTime();
+        refill(nowNanos);
+        requestsPerSecond = Math.max(maxRequestsPerSecond * MIN_RATE_FRACTION,
+            requestsPerSecond * RATE_DECREASE_FACTOR);
+        // a single request is sent when the pause ends, the next ones follow at the new rate
+        availablePermits = Math.min(1, availablePermits);
+        refilledUntilNanos = Math.max(refilledUntilNanos,
+            nowNanos + TimeUnit.MILLISECONDS.toNanos(retryAfterMillis));
+    }
+
+    /**
+     * Gets the time to wait given by the Retry-After header of a response, either as a number of
+     * seconds or as a date.
+     *
+     * @param response 429 response.
+     * @return Time to wait in milliseconds.
+     */
+    private static long getRetryAfterMillis(final Response response) {
+        String retryAfter = response.header("Retry-After");
+        if (retryAfter == null) {
+            return DEFAULT_RETRY_AFTER_MILLIS;
+        }
+
+        try {
+            return TimeUnit.SECONDS.toMillis(Math.max(0, Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException e) {
+            Date retryAfterDate = response.headers().getDate("Retry-After");
+            if (retryAfterDate == null) {
+                return DEFAULT_RETRY_AFTER_MILLIS;
+            }
+            return Math.max(0, retryAfterDate.getTime() - System.currentTimeMillis());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ */
+package com.bynder.sdk.api;
+
+import com.bynder.sdk.configuration.RetryPolicy;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import retrofit2.Invocation;
+
+/**
+ * Interceptor sending again the requests failing with a transient error, waiting for a jittered
+ * exponential backoff between attempts.
+ *
+ * <p>Requests with an idempotent method are retried with the default {@link RetryPolicy}. Other
+ * requests are only retried if a policy is set for their endpoint, named after the method of
+ * {@link BynderApi} creating them. The chunks of an upload are retried by the
+ * {@link com.bynder.sdk.service.upload.FileUploader} instead, so the interceptor is not used for
+ * Amazon S3.
+ */
+public class RetryInterceptor implements Interceptor {
+
+    /**
+     * HTTP methods of the requests that can be sent several times with the same effect.
+     */
+    private static final Set<String> IDEMPOTENT_METHODS = Collections.unmodifiableSet(
+        new HashSet<>(Arrays.asList("GET", "HEAD", "OPTIONS", "PUT", "DELETE")));
+
+    /**
+     * Policy of the requests retried by default.
+     */
+    private final RetryPolicy defaultRetryPolicy;
+    /**
+     * Policies by endpoint, overriding the default one.
+     */
+    private final Map<String, RetryPolicy> endpointRetryPolicies;
+    /**
+     * Source of time.
+     */
+    private final Clock clock;
+
+    /**
+     * Initialises a new instance of the class.
+     *
+     * @param defaultRetryPolicy Policy of the requests retried by default.
+     * @param endpointRetryPolicies Policies by endpoint, overriding the default one.
+     */
+    public RetryInterceptor(final RetryPolicy defaultRetryPolicy,
+        final Map<String, RetryPolicy> endpointRetryPolicies) {
+        this(defaultRetryPolicy, endpointRetryPolicies, Clock.SYSTEM);
+    }
+
+    /**
+     * Initialises a new instance of the class.
+     *
+     * @param defaultRetryPolicy Policy of the requests retried by default.
+     * @param endpointRetryPolicies Policies by endpoint, overriding the default one.
+     * @param clock Source of time.
+     */
+    RetryInterceptor(final RetryPolicy defaultRetryPolicy,
+        final Map<String, RetryPolicy> endpointRetryPolicies, final Clock clock) {
+        this.defaultRetryPolicy = defaultRetryPolicy;
+        this.endpointRetryPolicies = new HashMap<>(endpointRetryPolicies);
+        this.clock = clock;
+    }
+
+    @Override
+    public Response intercept(final Chain chain) throws IOException {
+        Request request = chain.request();
+        RetryPolicy retryPolicy = getRetryPolicy(request);
+
+        for (int attempt = 1; ; attempt++) {
+            boolean lastAttempt = attempt >= retryPolicy.getMaxAttempts()
+                || (chain.call() != null && chain.call().isCanceled());
+            Response response;
+            try {
+                response = chain.proceed(request);
+            } catch (IOException e) {
+                if (lastAttempt) {
+                    throw e;
+                }
+                backOff(retryPolicy, attempt);
+                continue;
+            }
+
+            if (lastAttempt || !retryPolicy.isRetryableStatusCode(response.code())) {
+                return response;
+            }
+            response.close();
+            backOff(retryPolicy, attempt);
+        }
+    }
+
+    /**
+     * Gets the retry policy of a request.
+     *
+     * @param request Request to send.
+     * @return Policy of the endpoint of the request if set, the default policy if the request has
+     * an idempotent method, or {@link RetryPolicy#NONE} otherwise.
+     */
+    private RetryPolicy getRetryPolicy(final Request request) {
+        Invocation invocation = request.tag(Invocation.class);
+        String endpoint = invocation != null ? invocation.method().getName() : null;
+
+        RetryPolicy endpointRetryPolicy = endpointRetryPolicies.get(endpoint);
+        if (endpointRetryPolicy != null) {
+            return endpointRetryPolicy;
+        }
+        if (IDEMPOTENT_METHODS.contains(request.method())) {
+            return defaultRetryPolicy;
+        }
+        return RetryPolicy.NONE;
+    }
+
+    /**
+     * Waits before retrying a request.
+     *
+     * @param retryPolicy Retry policy of the request.
+     * @param attempt Number of the attempt that failed.
+     * @throws InterruptedIOException If the thread is interrupted while waiting.
+     */
+    private void backOff(final RetryPolicy retryPolicy, final int attempt)
+        throws InterruptedIOException {
+        long backoffMillis = retryPolicy
+            .getBackoffMillis(attempt, ThreadLocalRandom.current().nextDouble());
+        try {
+            clock.sleep(TimeUnit.MILLISECONDS.toNanos(backoffMillis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry the request");
+        }
+    }
+}
@@ -6,9 +6,16 @@
  */
 package com.bynder.sdk.configuration;
 
+import com.bynder.sdk.api.CompressionMetrics;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.X509TrustManager;
 import okhttp3.Interceptor;
+import okhttp3.Protocol;
 import okhttp3.logging.HttpLoggingInterceptor;
 
 /**
@@ -17,6 +24,10 @@ import okhttp3.logging.HttpLoggingInterceptor;
 public class HttpConnectionSettings {
 
     public static final int DEFAULT_TIMEOUT_SECONDS = 30;
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+    public static final long DEFAULT_KEEP_ALIVE_DURATION_SECONDS = 300;
+    public static final int DEFAULT_MAX_REQUESTS = 64;
+    public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 5;
 
     /**
      * Read timeout in seconds.
@@ -48,6 +59,47 @@ public class HttpConnectionSettings {
      * Custom OkHttp Interceptor: can be used to transform URLs to an ESB.
      */
     private Interceptor customInterceptor;
+    /**
+     * Max number of idle connections kept in the connection pool.
+     */
+    private int maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+    /**
+     * Time in seconds an idle connection is kept in the connection pool.
+     */
+    private long keepAliveDurationSeconds = DEFAULT_KEEP_ALIVE_DURATION_SECONDS;
+    /**
+     * Max number of requests executed at the same time.
+     */
+    private int maxRequests = DEFAULT_MAX_REQUESTS;
+    /**
+     * Max number of requests executed at the same time for each host.
+     */
+    private int maxRequestsPerHost = DEFAULT_MAX_REQUESTS_PER_HOST;
+    /**
+     * Protocols used to communicate with Bynder. If not set, HTTP/2 is negotiated with TLS
+     * servers supporting it, falling back to HTTP/1.1.
+     */
+    private List<Protocol> protocols;
+    /**
+     * Metrics of the compression of the responses received from the Bynder API.
+     */
+    private CompressionMetrics compressionMetrics;
+    /**
+     * Max number of requests per second sent to Bynder. Not limited if 0.
+     */
+    private double maxRequestsPerSecond;
+    /**
+     * Max number of requests sent to Bynder at once after the client has been idle.
+     */
+    private int rateLimitBurst;
+    /**
+     * Retry policy of the requests that can be sent again.
+     */
+    private RetryPolicy retryPolicy = new RetryPolicy();
+    /**
+     * Retry policies by endpoint, overriding the default one.
+     */
+    private final Map<String, RetryPolicy> endpointRetryPolicies = new HashMap<>();
 
     public HttpConnectionSettings(final SSLContext sslContext, final X509TrustManager trustManager,
         final Interceptor customInterceptor, final int readTimeoutSeconds,
@@ -107,4 +159,164 @@ public class HttpConnectionSettings {
         return loggingInterceptorEnabled;
     }
 
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    public long getKeepAliveDurationSeconds() {
+        return keepAliveDurationSeconds;
+    }
+
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    /**
+     * Sets the limits of the connection pool.
+     *
+     * @param maxIdleConnections Max number of idle connections kept in the pool.
+     * @param keepAliveDurationSeconds Time in seconds an idle connection is kept in the pool.
+     * @return Instance of the settings.
+     */
+    public HttpConnectionSettings setConnectionPool(final int maxIdleConnections,
+        final long keepAliveDurationSeconds) {
+        if (maxIdleConnections < 0 || keepAliveDurationSeconds <= 0) {
+            throw new IllegalArgumentException(String.format(
+                "Invalid connection pool: %d max idle connections, keep alive %d s",
+                maxIdleConnections, keepAliveDurationSeconds));
+        }
+        this.maxIdleConnections = maxIdleConnections;
+        this.keepAliveDurationSeconds = keepAliveDurationSeconds;
+        return this;
+    }
+
+    /**
+     * Sets the max number of requests executed at the same time. Requests over these limits are
+     * queued until a running one finishes.
+     *
+     * @param maxRequests Max number of requests executed at the same time.
+     * @param maxRequestsPerHost Max number of requests executed at the same time for each host.
+     * @return Instance of the settings.
+     */
+    public HttpConnectionSettings setDispatcherLimits(final int maxRequests,
+        final int maxRequestsPerHost) {
+        if (maxRequests < 1 || maxRequestsPerHost < 1) {
+            throw new IllegalArgumentException(String.format(
+                "Invalid dispatcher limits: %d max requests, %d max requests per host",
+                maxRequests, maxRequestsPerHost));
+        }
+        this.maxRequests = maxRequests;
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        return this;
+    }
+
+    public List<Protocol> getProtocols() {
+        return protocols;
+    }
+
+    /**
+     * Sets the protocols used to communicate with Bynder, in order of preference. Use
+     * {@link Protocol#H2_PRIOR_KNOWLEDGE} alone to send HTTP/2 requests without TLS, to a gateway
+     * known to support it. As HTTP/2 multiplexes the requests to a host over a single connection,
+     * the max requests per host of {@link HttpConnectionSettings#setDispatcherLimits(int, int)}
+     * can be raised without opening more connections.
+     *
+     * @param protocols Protocols to use. Must include {@link Protocol#HTTP_1_1}, unless it only
+     * contains {@link Protocol#H2_PRIOR_KNOWLEDGE}.
+     * @return Instance of the settings.
+     */
+    public HttpConnectionSettings setProtocols(final List<Protocol> protocols) {
+        boolean priorKnowledge = protocols.contains(Protocol.H2_PRIOR_KNOWLEDGE);
+        if (priorKnowledge ? protocols.size() > 1 : !protocols.contains(Protocol.HTTP_1_1)) {
+            throw new IllegalArgumentException(String.format("Invalid protocols: %s", protocols));
+        }
+        this.protocols = Collections.unmodifiableList(new ArrayList<>(protocols));
+        return this;
+    }
+
+    public CompressionMetrics getCompressionMetrics() {
+        return compressionMetrics;
+    }
+
+    /**
+     * Sets the metrics in which the compressed and decompressed bytes of the responses received
+     * from the Bynder API are counted.
+     *
+     * @param compressionMetrics Metrics to update.
+     * @return Instance of the settings.
+     */
+    public HttpConnectionSettings setCompressionMetrics(
+        final CompressionMetrics compressionMetrics) {
+        this.compressionMetrics = compressionMetrics;
+        return this;
+    }
+
+    public double getMaxRequestsPerSecond() {
+        return maxRequestsPerSecond;
+    }
+
+    public int getRateLimitBurst() {
+        return rateLimitBurst;
+    }
+
+    /**
+     * Limits the rate of the requests sent to Bynder. The rate is lowered temporarily when
+     * Bynder answers with 429 Too Many Requests, and the rejected requests are sent again after
+     * the time given by Bynder. See {@link com.bynder.sdk.api.RateLimiter}.
+     *
+     * @param maxRequestsPerSecond Max number of requests per second.
+     * @param burst Max number of requests sent at once after the client has been idle.
+     * @return Instance of the settings.
+     */
+    public HttpConnectionSettings setRateLimit(final double maxRequestsPerSecond,
+        final int burst) {
+        if (!(maxRequestsPerSecond > 0) || burst < 1) {
+            throw new IllegalArgumentException(String.format(
+                "Invalid rate limit: %s requests per second, burst %d", maxRequestsPerSecond,
+                burst));
+        }
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
+        this.rateLimitBurst = burst;
+        return this;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    public Map<String, RetryPolicy> getEndpointRetryPolicies() {
+        return Collections.unmodifiableMap(endpointRetryPolicies);
+    }
+
+    /**
+     * Sets the retry policy of the requests with an idempotent method and of the uploads of file
+     * parts to Amazon S3. Unlike {@link HttpConnectionSettings#isRetryOnConnectionFailure()},
+     * which only covers connection failures, it also covers timeouts and 5xx responses. Use
+     * {@link RetryPolicy#NONE} to disable the retries.
+     *
+     * @param retryPolicy Default retry policy.
+     * @return Instance of the settings.
+     */
+    public HttpConnectionSettings setRetryPolicy(final RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+        return this;
+    }
+
+    /**
+     * Sets the retry policy of an endpoint, whatever its HTTP method. See
+     * {@link com.bynder.sdk.api.RetryInterceptor}.
+     *
+     * @param endpoint Name of the {@link com.bynder.sdk.api.BynderApi} method.
+     * @param retryPolicy Retry policy of the endpoint.
+     * @return Instance of the settings.
+     */
+    public HttpConnectionSettings setRetryPolicy(final String endpoint,
+        final RetryPolicy retryPolicy) {
+        endpointRetryPolicies.put(endpoint, retryPolicy);
+        return this;
+    }
 }
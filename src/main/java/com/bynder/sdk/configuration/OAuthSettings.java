@@ -9,6 +9,7 @@ package com.bynder.sdk.configuration;
 import com.bynder.sdk.model.oauth.RefreshTokenCallback;
 import com.bynder.sdk.model.oauth.Token;
 import java.net.URI;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class OAuthSettings {
 
@@ -25,9 +26,10 @@ public class OAuthSettings {
      */
     private URI redirectUri;
     /**
-     * Token information.
+     * Token information. Replaced atomically, so threads sending requests always read a
+     * complete token.
      */
-    private Token token;
+    private final AtomicReference<Token> token = new AtomicReference<>();
     /**
      * Optional callback method to be triggered when token is refreshed.
      */
@@ -67,16 +69,21 @@ public class OAuthSettings {
     }
 
     public Token getToken() {
-        return token;
+        return token.get();
     }
 
     public void setToken(final Token token) {
-        this.token = token;
+        this.token.set(token);
     }
 
+    /**
+     * Replaces the token with a refreshed one, keeping the current refresh token.
+     *
+     * @param newToken Token returned by the refresh.
+     */
     public void refreshToken(final Token newToken) {
-        newToken.setRefreshToken(this.token.getRefreshToken());
-        this.token = newToken;
+        token.updateAndGet(
+            currentToken -> newToken.withRefreshToken(currentToken.getRefreshToken()));
     }
 
     public void callback(final Token token) {
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ */
+package com.bynder.sdk.configuration;
+
+/**
+ * Configuration holder for the polling done after an upload is finalised, while waiting for
+ * Bynder to convert the uploaded file. The interval between polls starts at the initial interval
+ * and is multiplied by the backoff multiplier after every poll, up to the max interval.
+ */
+public class PollingSettings {
+
+    public static final long DEFAULT_INITIAL_INTERVAL_MILLIS = 1000;
+    public static final long DEFAULT_MAX_INTERVAL_MILLIS = 10000;
+    public static final double DEFAULT_BACKOFF_MULTIPLIER = 1.5;
+    public static final long DEFAULT_MAX_WAIT_MILLIS = 120000;
+
+    /**
+     * Interval in milliseconds between the first and the second poll.
+     */
+    private final long initialIntervalMillis;
+    /**
+     * Max interval in milliseconds between two polls.
+     */
+    private final long maxIntervalMillis;
+    /**
+     * Factor applied to the interval after every poll.
+     */
+    private final double backoffMultiplier;
+    /**
+     * Max time in milliseconds to wait for the file to be converted.
+     */
+    private final long maxWaitMillis;
+
+    public PollingSettings(final long initialIntervalMillis, final long maxIntervalMillis,
+        final double backoffMultiplier, final long maxWaitMillis) {
+        if (initialIntervalMillis < 0 || maxIntervalMillis < initialIntervalMillis
+            || backoffMultiplier < 1 || maxWaitMillis < 0) {
+            throw new IllegalArgumentException(String.format(
+                "Invalid polling settings: initial interval %d ms, max interval %d ms, "
+                    + "backoff multiplier %s, max wait %d ms", initialIntervalMillis,
+                maxIntervalMillis, backoffMultiplier, maxWaitMillis));
+        }
+        this.initialIntervalMillis = initialIntervalMillis;
+        this.maxIntervalMillis = maxIntervalMillis;
+        this.backoffMultiplier = backoffMultiplier;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    /**
+     * Empty constructor: allows quick access to default settings.
+     */
+    public PollingSettings() {
+        this(DEFAULT_INITIAL_INTERVAL_MILLIS, DEFAULT_MAX_INTERVAL_MILLIS,
+            DEFAULT_BACKOFF_MULTIPLIER, DEFAULT_MAX_WAIT_MILLIS);
+    }
+
+    public long getInitialIntervalMillis() {
+        return initialIntervalMillis;
+    }
+
+    public long getMaxIntervalMillis() {
+        return maxIntervalMillis;
+    }
+
+    public double getBackoffMultiplier() {
+        return backoffMultiplier;
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    /**
+     * Gets the interval to wait after the current one.
+     *
+     * @param intervalMillis Current interval in milliseconds.
+     * @return Next interval in milliseconds.
+     */
+    public long getNextIntervalMillis(final long intervalMillis) {
+        return Math.min(maxIntervalMillis, (long) (intervalMillis * backoffMultiplier));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ */
+package com.bynder.sdk.configuration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Configuration holder for the retries of the requests failing with a transient error: an
+ * {@link java.io.IOException}, such as a timeout, or a retryable status code. The backoff before
+ * a retry starts at the initial backoff and is multiplied by the backoff multiplier after every
+ * retry, up to the max backoff. A random part of the backoff, up to the jitter fraction, is
+ * removed so clients failing at the same time do not retry at the same time.
+ */
+public class RetryPolicy {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final long DEFAULT_INITIAL_BACKOFF_MILLIS = 500;
+    public static final long DEFAULT_MAX_BACKOFF_MILLIS = 10000;
+    public static final double DEFAULT_BACKOFF_MULTIPLIER = 2;
+    public static final double DEFAULT_JITTER = 0.5;
+    public static final Set<Integer> DEFAULT_RETRYABLE_STATUS_CODES = Collections
+        .unmodifiableSet(new HashSet<>(Arrays.asList(500, 502, 503, 504)));
+
+    /**
+     * Policy not retrying any request.
+     */
+    public static final RetryPolicy NONE = new RetryPolicy(1, 0, 0, 1, 0,
+        Collections.<Integer>emptySet());
+
+    /**
+     * Max number of times a request is sent, including the first one.
+     */
+    private final int maxAttempts;
+    /**
+     * Backoff in milliseconds before the first retry.
+     */
+    private final long initialBackoffMillis;
+    /**
+     * Max backoff in milliseconds before a retry.
+     */
+    private final long maxBackoffMillis;
+    /**
+     * Factor applied to the backoff after every retry.
+     */
+    private final double backoffMultiplier;
+    /**
+     * Max fraction of the backoff randomly removed.
+     */
+    private final double jitter;
+    /**
+     * Status codes of the responses retried.
+     */
+    private final Set<Integer> retryableStatusCodes;
+
+    public RetryPolicy(final int maxAttempts, final long initialBackoffMillis,
+        final long maxBackoffMillis, final double backoffMultiplier, final double jitter,
+        final Set<Integer> retryableStatusCodes) {
+        if (maxAttempts < 1 || initialBackoffMillis < 0 || maxBackoffMillis < initialBackoffMillis
+            || backoffMultiplier < 1 || jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException(String.format(
+                "Invalid retry policy: max attempts %d, initial backoff %d ms, max backoff %d ms, "
+                    + "backoff multiplier %s, jitter %s", maxAttempts, initialBackoffMillis,
+                maxBackoffMillis, backoffMultiplier, jitter));
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.backoffMultiplier = backoffMultiplier;
+        this.jitter = jitter;
+        this.retryableStatusCodes = Collections
+            .unmodifiableSet(new HashSet<>(retryableStatusCodes));
+    }
+
+    /**
+     * Empty constructor: allows quick access to default settings.
+     */
+    public RetryPolicy() {
+        this(DEFAULT_MAX_ATTEMPTS, DEFAULT_INITIAL_BACKOFF_MILLIS, DEFAULT_MAX_BACKOFF_MILLIS,
+            DEFAULT_BACKOFF_MULTIPLIER, DEFAULT_JITTER, DEFAULT_RETRYABLE_STATUS_CODES);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getInitialBackoffMillis() {
+        return initialBackoffMillis;
+    }
+
+    public long getMaxBackoffMillis() {
+        return maxBackoffMillis;
+    }
+
+    public double getBackoffMultiplier() {
+        return backoffMultiplier;
+    }
+
+    public double getJitter() {
+        return jitter;
+    }
+
+    public Set<Integer> getRetryableStatusCodes() {
+        return retryableStatusCodes;
+    }
+
+    /**
+     * Checks if the responses with a status code are retried.
+     *
+     * @param statusCode Status code of the response.
+     * @return True if the request is retried.
+     */
+    public boolean isRetryableStatusCode(final int statusCode) {
+        return retryableStatusCodes.contains(statusCode);
+    }
+
+    /**
+     * Gets the backoff before a retry.
+     *
+     * @param retry Number of the retry, starting at 1.
+     * @param random Random number between 0 and 1 choosing the part of the backoff removed.
+     * @return Backoff in milliseconds.
+     */
+    public long getBackoffMillis(final int retry, final double random) {
+        double backoffMillis = Math.min(maxBackoffMillis,
+            initialBackoffMillis * Math.pow(backoffMultiplier, retry - 1));
+        return (long) (backoffMillis * (1 - jitter * random));
+    }
+}
@@ -21,4 +21,14 @@ public class BynderRuntimeException extends RuntimeException {
     public BynderRuntimeException(final String message) {
         super(message);
     }
+
+    /**
+     * Creates a new instance of the class.
+     *
+     * @param message Message explaining the exception.
+     * @param cause Cause of the exception.
+     */
+    public BynderRuntimeException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -8,12 +8,16 @@ package com.bynder.sdk.model.oauth;
 
 import com.bynder.sdk.api.OAuthApi;
 import com.google.gson.annotations.SerializedName;
-import java.util.Calendar;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Token model returned by {@link OAuthApi#getAccessToken(Map)}.
+ *
+ * <p>Tokens are immutable, as they are shared by all the threads sending requests. Use
+ * {@link Token#withAccessTokenExpiration()} and {@link Token#withRefreshToken(String)} to derive
+ * new tokens instead.
  */
 public class Token {
 
@@ -21,30 +25,34 @@ public class Token {
      * The access token issued by the authorization server.
      */
     @SerializedName("access_token")
-    private String accessToken;
+    private final String accessToken;
     /**
      * The remaining lifetime in seconds of the access token.
      */
     @SerializedName("expires_in")
-    private int expiresIn;
+    private final int expiresIn;
     /**
      * The type of the issued token.
      */
     @SerializedName("token_type")
-    private String tokenType;
+    private final String tokenType;
     /**
      * Scope of the issued token.
      */
-    private String scope;
+    private final String scope;
     /**
      * The refresh token which can be used to obtain new access tokens.
      */
     @SerializedName("refresh_token")
-    private String refreshToken;
+    private final String refreshToken;
     /**
      * The access token expiration date.
      */
-    private Date accessTokenExpiration;
+    private final Date accessTokenExpiration;
+    /**
+     * The access token expiration time in milliseconds since the epoch, or 0 if not set.
+     */
+    private final long accessTokenExpirationMillis;
 
     public Token(final String accessToken, final int expiresIn, final String tokenType,
         final String scope, final String refreshToken) {
@@ -53,6 +61,20 @@ public class Token {
         this.tokenType = tokenType;
         this.scope = scope;
         this.refreshToken = refreshToken;
+        this.accessTokenExpiration = null;
+        this.accessTokenExpirationMillis = 0;
+    }
+
+    private Token(final Token token, final String refreshToken,
+        final long accessTokenExpirationMillis) {
+        this.accessToken = token.accessToken;
+        this.expiresIn = token.expiresIn;
+        this.tokenType = token.tokenType;
+        this.scope = token.scope;
+        this.refreshToken = refreshToken;
+        this.accessTokenExpiration = accessTokenExpirationMillis == 0 ? null
+            : new Date(accessTokenExpirationMillis);
+        this.accessTokenExpirationMillis = accessTokenExpirationMillis;
     }
 
     public String getAccessToken() {
@@ -75,18 +97,65 @@ public class Token {
         return refreshToken;
     }
 
+    /**
+     * Kept for compatibility, it does not change the token anymore.
+     *
+     * @param refreshToken Refresh token.
+     * @deprecated Tokens are immutable, so the token used by the SDK is never changed by this
+     * method. Use {@link Token#withRefreshToken(String)} to get a copy with the refresh token.
+     */
+    @Deprecated
     public void setRefreshToken(final String refreshToken) {
-        this.refreshToken = refreshToken;
     }
 
     public Date getAccessTokenExpiration() {
-        return accessTokenExpiration;
+        return accessTokenExpiration == null ? null
+            : new Date(accessTokenExpiration.getTime());
     }
 
+    /**
+     * Kept for compatibility, it does not change the token anymore.
+     *
+     * @deprecated Tokens are immutable, so the token used by the SDK is never changed by this
+     * method. Use {@link Token#withAccessTokenExpiration()} to get a copy with the expiration
+     * date.
+     */
+    @Deprecated
     public void setAccessTokenExpiration() {
-        Calendar calendar = Calendar.getInstance();
-        calendar.add(Calendar.SECOND, expiresIn);
+    }
+
+    /**
+     * Gets the access token expiration time, cheaper to compare than the expiration date.
+     *
+     * @return Expiration time in milliseconds since the epoch, or 0 if the expiration date is not
+     * set.
+     */
+    public long getAccessTokenExpirationMillis() {
+        if (accessTokenExpirationMillis == 0 && accessTokenExpiration != null) {
+            // token deserialised with its expiration date only
+            return accessTokenExpiration.getTime();
+        }
+        return accessTokenExpirationMillis;
+    }
 
-        this.accessTokenExpiration = calendar.getTime();
+    /**
+     * Creates a copy of the token whose access token expires after its remaining lifetime,
+     * counted from now.
+     *
+     * @return New token with the same access and refresh tokens.
+     */
+    public Token withAccessTokenExpiration() {
+        return new Token(this, refreshToken,
+            System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(expiresIn));
+    }
+
+    /**
+     * Creates a copy of the token with a different refresh token.
+     *
+     * @param refreshToken Refresh token of the copy.
+     * @return New token with the same access token and expiration.
+     */
+    public Token withRefreshToken(final String refreshToken) {
+        return new Token(this, refreshToken, getAccessTokenExpirationMillis());
     }
 }
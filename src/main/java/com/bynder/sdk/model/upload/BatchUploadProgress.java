@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ */
+package com.bynder.sdk.model.upload;
+
+import com.bynder.sdk.query.upload.UploadQuery;
+
+/**
+ * Model to represent the progress of one of the files of a batch upload.
+ */
+public class BatchUploadProgress {
+
+    /**
+     * Upload query of the file this progress belongs to.
+     */
+    private final UploadQuery uploadQuery;
+    /**
+     * Progress of the upload of the file. Null if the upload failed before any progress was made.
+     */
+    private final UploadProgress uploadProgress;
+    /**
+     * Error that made the upload of the file fail. Null while the upload did not fail.
+     */
+    private final Throwable error;
+
+    public BatchUploadProgress(final UploadQuery uploadQuery,
+        final UploadProgress uploadProgress) {
+        this.uploadQuery = uploadQuery;
+        this.uploadProgress = uploadProgress;
+        this.error = null;
+    }
+
+    public BatchUploadProgress(final UploadQuery uploadQuery, final Throwable error) {
+        this.uploadQuery = uploadQuery;
+        this.uploadProgress = null;
+        this.error = error;
+    }
+
+    public UploadQuery getUploadQuery() {
+        return uploadQuery;
+    }
+
+    public UploadProgress getUploadProgress() {
+        return uploadProgress;
+    }
+
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Whether the upload of the file failed.
+     *
+     * @return True if the upload failed and {@link BatchUploadProgress#getError()} has the cause.
+     */
+    public boolean isFailed() {
+        return error != null;
+    }
+
+    /**
+     * Whether the file has been uploaded and saved successfully.
+     *
+     * @return True if the upload of the file finished successfully.
+     */
+    public boolean isFinished() {
+        return uploadProgress != null && uploadProgress.isFinished();
+    }
+}
@@ -6,9 +6,15 @@
  */
 package com.bynder.sdk.model.upload;
 
+import com.bynder.sdk.configuration.PollingSettings;
+
 /**
  * Model to represent the conversion status of a file being uploaded to Bynder.
+ *
+ * @deprecated The SDK does not use it anymore, the conversion of uploaded files is polled as
+ * configured by {@link PollingSettings}.
  */
+@Deprecated
 public class FileConverterStatus {
 
     /**
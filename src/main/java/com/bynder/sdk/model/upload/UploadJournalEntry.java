@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ */
+package com.bynder.sdk.model.upload;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Model to represent the state of a file upload stored in an upload journal, which allows an
+ * interrupted upload to be resumed from the chunks that were not uploaded yet.
+ */
+public class UploadJournalEntry {
+
+    /**
+     * Absolute path of the file being uploaded.
+     */
+    private String filePath;
+    /**
+     * Size in bytes of the file when the upload started.
+     */
+    private long fileSize;
+    /**
+     * Last modification time of the file when the upload started.
+     */
+    private long lastModified;
+    /**
+     * Chunk size used to split the file.
+     */
+    private int chunkSize;
+    /**
+     * Upload authorisation information returned by Bynder when the upload started.
+     */
+    private UploadRequest uploadRequest;
+    /**
+     * Numbers of the chunks already uploaded and registered in Bynder.
+     */
+    private transient Set<Integer> completedChunks;
+
+    public UploadJournalEntry(final File file, final int chunkSize,
+        final UploadRequest uploadRequest) {
+        this.filePath = file.getAbsolutePath();
+        this.fileSize = file.length();
+        this.lastModified = file.lastModified();
+        this.chunkSize = chunkSize;
+        this.uploadRequest = uploadRequest;
+        this.completedChunks = new TreeSet<>();
+    }
+
+    /**
+     * Initialises the entry of an upload not recorded in a journal, as its content is not read
+     * from a file.
+     *
+     * @param chunkSize Chunk size used to split the content.
+     * @param uploadRequest Upload authorisation information.
+     */
+    public UploadJournalEntry(final int chunkSize, final UploadRequest uploadRequest) {
+        this.chunkSize = chunkSize;
+        this.uploadRequest = uploadRequest;
+        this.completedChunks = new TreeSet<>();
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public UploadRequest getUploadRequest() {
+        return uploadRequest;
+    }
+
+    public Set<Integer> getCompletedChunks() {
+        return completedChunks == null ? Collections.emptySet()
+            : Collections.unmodifiableSet(completedChunks);
+    }
+
+    public void addCompletedChunk(final int chunkNumber) {
+        if (completedChunks == null) {
+            completedChunks = new TreeSet<>();
+        }
+        completedChunks.add(chunkNumber);
+    }
+
+    /**
+     * Checks if the entry was created for the same content of the file. The chunks already
+     * uploaded can be reused if the file is split with the chunk size of the entry.
+     *
+     * @param file File to be uploaded.
+     * @return True if the upload of the file can be resumed from this entry.
+     */
+    public boolean matches(final File file) {
+        return file.getAbsolutePath().equals(filePath) && fileSize == file.length()
+            && lastModified == file.lastModified();
+    }
+}
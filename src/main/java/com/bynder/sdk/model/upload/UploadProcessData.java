@@ -10,6 +10,7 @@ import com.bynder.sdk.model.upload.UploadRequest;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import okhttp3.RequestBody;
 
 /**
  * Model to represent the upload process data of a file being uploaded to Bynder.
@@ -17,13 +18,9 @@ import java.io.IOException;
 public class UploadProcessData {
 
     /**
-     * File being uploaded.
+     * Source of the content being uploaded.
      */
-    private final File file;
-    /**
-     * Input bytes of the file being uploaded.
-     */
-    private final FileInputStream fileInputStream;
+    private final UploadSource uploadSource;
     /**
      * Upload authorisation information.
      */
@@ -33,52 +30,69 @@ public class UploadProcessData {
      */
     private final int maxChunkSize;
     /**
-     * Total number of chunks.
+     * Total size in bytes of the file being uploaded.
      */
-    private final int numberOfChunks;
+    private final long fileSize;
     /**
-     * Number of the chunk be uploaded.
+     * Total number of chunks.
      */
-    private int chunkNumber;
+    private final int numberOfChunks;
 
     public UploadProcessData(final File file, final FileInputStream fileInputStream,
         final UploadRequest uploadRequest, final int maxChunkSize) {
-        this.file = file;
-        this.fileInputStream = fileInputStream;
+        this(UploadSource.fromFile(file, fileInputStream.getChannel()), uploadRequest,
+            maxChunkSize);
+    }
+
+    public UploadProcessData(final UploadSource uploadSource, final UploadRequest uploadRequest,
+        final int maxChunkSize) {
+        this.uploadSource = uploadSource;
         this.uploadRequest = uploadRequest;
         this.maxChunkSize = maxChunkSize;
-        this.numberOfChunks = (int) ((file.length() + maxChunkSize - 1) / maxChunkSize);
-        this.chunkNumber = 0;
+        this.fileSize = uploadSource.getLength();
+        this.numberOfChunks = (int) ((fileSize + maxChunkSize - 1) / maxChunkSize);
+    }
+
+    public UploadSource getUploadSource() {
+        return uploadSource;
     }
 
     public File getFile() {
-        return file;
+        return uploadSource.getFile();
     }
 
     public UploadRequest getUploadRequest() {
         return uploadRequest;
     }
 
-    public int getChunkNumber() {
-        return chunkNumber;
-    }
-
     public int getNumberOfChunks() {
         return numberOfChunks;
     }
 
-    public void incrementChunk() {
-        chunkNumber++;
+    /**
+     * Gets the size in bytes of the specified chunk.
+     *
+     * @param chunkNumber Number of the chunk, starting at 1.
+     * @return Size in bytes of the chunk.
+     */
+    public int getChunkSize(final int chunkNumber) {
+        return (int) Math.min(maxChunkSize, fileSize - getChunkOffset(chunkNumber));
     }
 
-    public boolean isCompleted() {
-        return chunkNumber == numberOfChunks;
+    /**
+     * Gets the content of the specified chunk as a request body. For files, the chunk region is
+     * streamed from the file when it is sent, which means that chunks can be sent concurrently
+     * and in any order. See {@link UploadSource} for the other sources.
+     *
+     * @param chunkNumber Number of the chunk, starting at 1.
+     * @return {@link RequestBody} with the content of the chunk.
+     * @throws IOException If the chunk could not be read from the source.
+     */
+    public RequestBody getChunk(final int chunkNumber) throws IOException {
+        return uploadSource.readChunk(getChunkOffset(chunkNumber), getChunkSize(chunkNumber));
     }
 
-    public byte[] getBuffer() throws IOException {
-        int length = Math.min(maxChunkSize, fileInputStream.available());
-        byte[] buffer = new byte[length];
-        fileInputStream.read(buffer);
-        return buffer;
+    private long getChunkOffset(final int chunkNumber) {
+        return (long) (chunkNumber - 1) * maxChunkSize;
     }
 }
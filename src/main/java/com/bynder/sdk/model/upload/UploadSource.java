@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ */
+package com.bynder.sdk.model.upload;
+
+import com.bynder.sdk.util.FileRegionRequestBody;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+/**
+ * Content uploaded to Bynder: a file, a {@link ByteBuffer} or a stream of known length. The
+ * content is split into chunks, read when they are about to be sent to Amazon S3.
+ *
+ * <p>Files and buffers are read positionally, so their chunks can be read in any order and the
+ * upload of a file can be resumed from an upload journal. Streams are read sequentially, so their
+ * chunks must be read in order, and every chunk is kept in memory until it has been sent.
+ */
+public abstract class UploadSource implements Closeable {
+
+    /**
+     * Content type of the chunks sent to Amazon S3.
+     */
+    static final MediaType CHUNK_CONTENT_TYPE = MediaType.parse("multipart/form-data");
+    /**
+     * Size of the blocks a channel of unknown length is read into.
+     */
+    static final int BLOCK_SIZE = 1024 * 1024;
+
+    /**
+     * Name of the uploaded content, used as file name in Bynder.
+     */
+    private final String name;
+
+    /**
+     * Initialises a new instance of the class.
+     *
+     * @param name Name of the uploaded content, used as file name in Bynder.
+     */
+    protected UploadSource(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Creates a source reading a file.
+     *
+     * @param file File to upload.
+     * @return Source of the file.
+     */
+    public static UploadSource fromFile(final File file) {
+        return new FileUploadSource(file, null);
+    }
+
+    /**
+     * Creates a source reading a file through a channel already opened, which is not closed with
+     * the source.
+     *
+     * @param file File to upload.
+     * @param fileChannel Channel of the file.
+     * @return Source of the file.
+     */
+    static UploadSource fromFile(final File file, final FileChannel fileChannel) {
+        return new FileUploadSource(file, fileChannel);
+    }
+
+    /**
+     * Creates a source reading the remaining bytes of a buffer. The position of the buffer is not
+     * modified.
+     *
+     * @param name Name of the uploaded content, used as file name in Bynder.
+     * @param byteBuffer Buffer with the content to upload.
+     * @return Source of the buffer.
+     */
+    public static UploadSource fromByteBuffer(final String name, final ByteBuffer byteBuffer) {
+        return new ByteBufferUploadSource(name, Collections.singletonList(byteBuffer.slice()),
+            Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a source reading a channel of known length. The channel is closed with the source.
+     *
+     * @param name Name of the uploaded content, used as file name in Bynder.
+     * @param channel Channel with the content to upload.
+     * @param length Number of bytes to read from the channel.
+     * @return Source of the channel.
+     */
+    public static UploadSource fromChannel(final String name, final ReadableByteChannel channel,
+        final long length) {
+        if (length < 0) {
+            throw new IllegalArgumentException(String.format("Invalid length: %d", length));
+        }
+        return new ChannelUploadSource(name, channel, length);
+    }
+
+    /**
+     * Creates a source reading a channel of unknown length. As every chunk sent to Amazon S3
+     * carries the total number of chunks, the channel is read to the end into memory before the
+     * upload starts, and then closed. The content is read into blocks of
+     * {@link UploadSource#BLOCK_SIZE} bytes, which are never copied, so the memory used stays
+     * close to the length of the content.
+     *
+     * @param name Name of the uploaded content, used as file name in Bynder.
+     * @param channel Channel with the content to upload.
+     * @return Source of the content read from the channel.
+     * @throws IOException If the channel could not be read.
+     */
+    public static UploadSource fromChannel(final String name, final ReadableByteChannel channel)
+        throws IOException {
+        List<ByteBuffer> blocks = new ArrayList<>();
+        try (ReadableByteChannel closedChannel = channel) {
+            ByteBuffer block = ByteBuffer.allocate(BLOCK_SIZE);
+            while (closedChannel.read(block) >= 0) {
+                if (!block.hasRemaining()) {
+                    block.flip();
+                    blocks.add(block);
+                    block = ByteBuffer.allocate(BLOCK_SIZE);
+                }
+            }
+            block.flip();
+            blocks.add(block);
+        }
+        return new ByteBufferUploadSource(name, blocks, BLOCK_SIZE);
+    }
+
+    /**
+     * Creates a source reading an input stream of known length. The stream is closed with the
+     * source.
+     *
+     * @param name Name of the uploaded content, used as file name in Bynder.
+     * @param inputStream Stream with the content to upload.
+     * @param length Number of bytes to read from the stream.
+     * @return Source of the stream.
+     */
+    public static UploadSource fromInputStream(final String name, final InputStream inputStream,
+        final long length) {
+        return fromChannel(name, Channels.newChannel(inputStream), length);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the file read by the source.
+     *
+     * @return File read, or null if the source does not read a file.
+     */
+    public File getFile() {
+        return null;
+    }
+
+    /**
+     * Gets the length of the content.
+     *
+     * @return Length in bytes.
+     */
+    public abstract long getLength();
+
+    /**
+     * Checks if the content exists, so it can be uploaded.
+     *
+     * @return True if the content exists.
+     */
+    public boolean exists() {
+        return true;
+    }
+
+    /**
+     * Reads a chunk of the content. Sources read sequentially only accept the chunks in order.
+     *
+     * @param offset Position of the chunk in the content.
+     * @param length Length in bytes of the chunk.
+     * @return {@link RequestBody} with the content of the chunk, which can be sent several times.
+     * @throws IOException If the chunk could not be read.
+     */
+    public abstract RequestBody readChunk(long offset, int length) throws IOException;
+
+    /**
+     * Releases the resources of the source. Does nothing by default.
+     *
+     * @throws IOException If the resources could not be released.
+     */
+    @Override
+    public void close() throws IOException {
+    }
+
+    /**
+     * Source reading a file positionally.
+     */
+    private static class FileUploadSource extends UploadSource {
+
+        /**
+         * File read.
+         */
+        private final File file;
+        /**
+         * Whether the channel is opened, and closed, by the source.
+         */
+        private final boolean ownsChannel;
+        /**
+         * Channel of the file, opened when the first chunk is read.
+         */
+        private FileChannel fileChannel;
+
+        FileUploadSource(final File file, final FileChannel fileChannel) {
+            super(file.getName());
+            this.file = file;
+            this.fileChannel = fileChannel;
+            this.ownsChannel = fileChannel == null;
+        }
+
+        @Override
+        public File getFile() {
+            return file;
+        }
+
+        @Override
+        public long getLength() {
+            return file.length();
+        }
+
+        @Override
+        public boolean exists() {
+            return file.exists();
+        }
+
+        @Override
+        public synchronized RequestBody readChunk(final long offset, final int length)
+            throws IOException {
+            if (fileChannel == null) {
+                fileChannel = new FileInputStream(file).getChannel();
+            }
+            return new FileRegionRequestBody(CHUNK_CONTENT_TYPE, fileChannel, offset, length);
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (ownsChannel && fileChannel != null) {
+                fileChannel.close();
+            }
+        }
+    }
+
+    /**
+     * Source reading buffers positionally, without copying them.
+     */
+    private static class ByteBufferUploadSource extends UploadSource {
+
+        /**
+         * Buffers read one after the other, each from position 0 to its limit.
+         */
+        private final List<ByteBuffer> blocks;
+        /**
+         * Number of bytes of every buffer but the last one.
+         */
+        private final int blockSize;
+        /**
+         * Total number of bytes of the buffers.
+         */
+        private final long length;
+
+        ByteBufferUploadSource(final String name, final List<ByteBuffer> blocks,
+            final int blockSize) {
+            super(name);
+            this.blocks = blocks;
+            this.blockSize = blockSize;
+            this.length = (long) blockSize * (blocks.size() - 1)
+                + blocks.get(blocks.size() - 1).limit();
+        }
+
+        @Override
+        public long getLength() {
+            return length;
+        }
+
+        @Override
+        public RequestBody readChunk(final long offset, final int length) {
+            return new RequestBody() {
+
+                @Override
+                public MediaType contentType() {
+                    return CHUNK_CONTENT_TYPE;
+                }
+
+                @Override
+                public long contentLength() {
+                    return length;
+                }
+
+                @Override
+                public void writeTo(final BufferedSink sink) throws IOException {
+                    long position = offset;
+                    long end = offset + length;
+                    while (position < end) {
+                        ByteBuffer content = blocks.get((int) (position / blockSize))
+                            .duplicate();
+                        int blockPosition = (int) (position % blockSize);
+                        content.position(blockPosition);
+                        content.limit((int) Math.min(content.limit(),
+                            blockPosition + end - position));
+                        position += content.remaining();
+                        while (content.hasRemaining()) {
+                            sink.write(content);
+                        }
+                    }
+                }
+            };
+        }
+    }
+
+    /**
+     * Source reading a channel sequentially.
+     */
+    private static class ChannelUploadSource extends UploadSource {
+
+        /**
+         * Channel read.
+         */
+        private final ReadableByteChannel channel;
+        /**
+         * Number of bytes to read from the channel.
+         */
+        private final long length;
+        /**
+         * Number of bytes already read from the channel.
+         */
+        private long position;
+
+        ChannelUploadSource(final String name, final ReadableByteChannel channel,
+            final long length) {
+            super(name);
+            this.channel = channel;
+            this.length = length;
+        }
+
+        @Override
+        public long getLength() {
+            return length;
+        }
+
+        @Override
+        public synchronized RequestBody readChunk(final long offset, final int length)
+            throws IOException {
+            if (offset != position) {
+                throw new IllegalStateException(String.format(
+                    "Chunks of a channel must be read in order: expected offset %d, got %d",
+                    position, offset));
+            }
+
+            ByteBuffer chunk = ByteBuffer.allocate(length);
+            while (chunk.hasRemaining()) {
+                if (channel.read(chunk) < 0) {
+                    throw new EOFException(String
+                        .format("Unexpected end of channel at position %d",
+                            position + chunk.position()));
+                }
+            }
+            position += length;
+
+            return RequestBody.create(CHUNK_CONTENT_TYPE, chunk.array());
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -6,52 +6,98 @@
  */
 package com.bynder.sdk.query.decoder;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Decodes query object to a Map of parameters.
+ *
+ * <p>The fields with {@link ApiField} annotation of a query class are looked up with reflection
+ * only the first time an object of that class is decoded. The resulting decoding plan, with an
+ * accessible {@link Field} for every field and a shared instance of every
+ * {@link ParameterDecoder}, is cached and reused for all the following objects of the class.
+ * See QueryDecoderBenchmark in the tests for the cost of a decoding compared to looking the
+ * fields up every time.
  */
 public class QueryDecoder {
 
     /**
-     * Method called for each field in a query object. It extracts the different fields with
-     * {@link ApiField} annotation and, if needed, calls appropriate converter to convert
-     * property value to string.
+     * Decoding plans of the query classes already decoded.
+     */
+    private static final ClassValue<List<FieldDecoder>> FIELD_DECODERS =
+        new ClassValue<List<FieldDecoder>>() {
+            @Override
+            protected List<FieldDecoder> computeValue(final Class<?> queryClass) {
+                return compileFieldDecoders(queryClass);
+            }
+        };
+    /**
+     * Shared instances of the parameter decoders, by decoder class.
+     */
+    private static final ConcurrentMap<Class<?>, ParameterDecoder> PARAMETER_DECODERS =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Builds the decoding plan of a query class. It extracts the fields of the class and its
+     * superclass with {@link ApiField} annotation and resolves the parameter name and, if needed,
+     * the converter to convert the property value to string.
      *
-     * @param field Field information.
-     * @param query Query object.
-     * @param parameters Parameters name/value pairs to send to the API.
-     * @throws IllegalAccessException If the Field object is inaccessible.
+     * @param queryClass Class of the query objects.
+     * @return Decoders of the fields to send to the API.
      */
-    private static void convertField(final Field field, final Object query,
-        final Map<String, String> parameters) throws IllegalAccessException {
-        field.setAccessible(true);
-        ApiField apiField = field.getAnnotation(ApiField.class);
-        Object fieldValue = field.get(query);
-        if (apiField != null && fieldValue != null) {
+    private static List<FieldDecoder> compileFieldDecoders(final Class<?> queryClass) {
+        List<Field> fields = new ArrayList<>(Arrays.asList(queryClass.getDeclaredFields()));
+        if (queryClass.getSuperclass() != null) {
+            fields.addAll(Arrays.asList(queryClass.getSuperclass().getDeclaredFields()));
+        }
+
+        List<FieldDecoder> fieldDecoders = new ArrayList<>();
+        for (Field field : fields) {
+            ApiField apiField = field.getAnnotation(ApiField.class);
+            if (apiField == null || Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+
             String name =
                 ApiField.DEFAULT_NAME.equals(apiField.name()) ? field.getName() : apiField.name();
+            ParameterDecoder parameterDecoder = apiField.decoder().equals(void.class) ? null
+                : getParameterDecoder(apiField.decoder());
 
-            if (apiField.decoder().equals(void.class)) {
-                parameters.put(name, fieldValue.toString());
-            } else {
-                ParameterDecoder parameterDecoder = null;
-                try {
-                    parameterDecoder = (ParameterDecoder) apiField.decoder().newInstance();
-                } catch (InstantiationException e) {
-                    // Failed to instantiate class. Nothing to do.
-                }
-
-                parameters.putAll(parameterDecoder.decode(name, fieldValue));
-            }
+            // the field is only read through the cached plan, so it is left accessible
+            field.setAccessible(true);
+            fieldDecoders.add(new FieldDecoder(name, field, parameterDecoder));
         }
 
-        field.setAccessible(false);
+        return Collections.unmodifiableList(fieldDecoders);
+    }
+
+    /**
+     * Gets the shared instance of a parameter decoder class, creating it the first time it is
+     * used.
+     *
+     * @param decoderClass Class of the parameter decoder.
+     * @return Instance of the parameter decoder.
+     */
+    private static ParameterDecoder getParameterDecoder(final Class<?> decoderClass) {
+        return PARAMETER_DECODERS.computeIfAbsent(decoderClass, key -> {
+            try {
+                Constructor<?> constructor = key.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return (ParameterDecoder) constructor.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(
+                    String.format("Cannot instantiate parameter decoder %s", key), e);
+            }
+        });
     }
 
     /**
@@ -64,24 +110,62 @@ public class QueryDecoder {
     public Map<String, String> decode(final Object query) {
         Map<String, String> parameters = new HashMap<>();
         if (query != null) {
-            List<Field> fields = new ArrayList<>();
+            for (FieldDecoder fieldDecoder : FIELD_DECODERS.get(query.getClass())) {
+                fieldDecoder.decode(query, parameters);
+            }
+        }
+
+        return parameters;
+    }
+
+    /**
+     * Decoding plan of a single field with {@link ApiField} annotation.
+     */
+    private static class FieldDecoder {
 
-            fields.addAll(Arrays.asList(query.getClass().getDeclaredFields()));
+        /**
+         * Name of the API parameter.
+         */
+        private final String name;
+        /**
+         * Field read, made accessible.
+         */
+        private final Field field;
+        /**
+         * Converter of the field value, or null if the value is converted with toString().
+         */
+        private final ParameterDecoder parameterDecoder;
 
-            if (query.getClass().getSuperclass().getDeclaredFields() != null) {
-                fields.addAll(Arrays.asList(query.getClass().getSuperclass().getDeclaredFields()));
+        FieldDecoder(final String name, final Field field,
+            final ParameterDecoder parameterDecoder) {
+            this.name = name;
+            this.field = field;
+            this.parameterDecoder = parameterDecoder;
+        }
+
+        /**
+         * Adds the API parameters of the field to the parameters if its value is not null.
+         *
+         * @param query Query object.
+         * @param parameters Parameters name/value pairs to send to the API.
+         */
+        @SuppressWarnings("unchecked")
+        void decode(final Object query, final Map<String, String> parameters) {
+            Object fieldValue;
+            try {
+                fieldValue = field.get(query);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(
+                    String.format("Cannot read parameter %s of %s", name, query.getClass()), e);
             }
 
-            for (Field field : fields) {
-                try {
-                    convertField(field, query, parameters);
-                } catch (IllegalAccessException e) {
-                    // Nothing to do. This will never happen as
-                    // we are iterating over the fields.
+            if (fieldValue != null) {
+                if (parameterDecoder == null) {
+                    parameters.put(name, fieldValue.toString());
+                } else {
+                    parameters.putAll(parameterDecoder.decode(name, fieldValue));
                 }
             }
         }
-
-        return parameters;
     }
 }
@@ -6,8 +6,13 @@
  */
 package com.bynder.sdk.query.upload;
 
+import com.bynder.sdk.configuration.PollingSettings;
+import com.bynder.sdk.configuration.RetryPolicy;
+import com.bynder.sdk.model.upload.UploadSource;
 import com.bynder.sdk.query.MetapropertyAttribute;
+import com.bynder.sdk.service.upload.UploadJournal;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -19,9 +24,23 @@ import java.util.Map;
 public class UploadQuery {
 
     /**
-     * File path of the file we want to upload.
+     * Number of chunks uploaded at the same time when not specified otherwise.
+     */
+    public static final int DEFAULT_CHUNK_PARALLELISM = 1;
+    /**
+     * Size in bytes of the chunks when not specified otherwise.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024 * 5;
+
+    /**
+     * File path of the file we want to upload, or null if the content comes from an upload
+     * source.
      */
     private final String filepath;
+    /**
+     * Source of the content we want to upload, or null if it is read from the file path.
+     */
+    private final UploadSource uploadSource;
     /**
      * Brand id where we want to store the file.
      */
@@ -39,9 +58,43 @@ public class UploadQuery {
      * list of metaproperties and options to set on the asset upon upload.
      */
     private List<MetapropertyAttribute> metaproperties;
+    /**
+     * Maximum number of chunks being uploaded to Amazon S3 and registered in Bynder at the same
+     * time.
+     */
+    private int chunkParallelism = DEFAULT_CHUNK_PARALLELISM;
+    /**
+     * Size in bytes of the chunks the file is split into. The min size if the chunk size is
+     * adaptive.
+     */
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    /**
+     * Whether the chunk size is chosen from the throughput measured on the previous chunks
+     * uploaded by the same client.
+     */
+    private boolean adaptiveChunkSize;
+    /**
+     * Optional journal used to resume the upload if it was interrupted before.
+     */
+    private UploadJournal uploadJournal;
+    /**
+     * Settings of the polling done while waiting for the uploaded file to be converted.
+     */
+    private PollingSettings pollingSettings = new PollingSettings();
+    /**
+     * Retry policy of a chunk whose upload to Amazon S3 or registration in Bynder failed.
+     */
+    private RetryPolicy chunkRetryPolicy = new RetryPolicy();
 
     public UploadQuery(final String filepath, final String brandId) {
         this.filepath = filepath;
+        this.uploadSource = null;
+        this.brandId = brandId;
+    }
+
+    public UploadQuery(final UploadSource uploadSource, final String brandId) {
+        this.filepath = null;
+        this.uploadSource = uploadSource;
         this.brandId = brandId;
     }
 
@@ -49,6 +102,15 @@ public class UploadQuery {
         return filepath;
     }
 
+    /**
+     * Gets the source of the content to upload.
+     *
+     * @return Upload source of the query, or a new source reading the file path.
+     */
+    public UploadSource getUploadSource() {
+        return uploadSource != null ? uploadSource : UploadSource.fromFile(new File(filepath));
+    }
+
     public String getBrandId() {
         return brandId;
     }
@@ -84,4 +146,66 @@ public class UploadQuery {
 
         return this;
     }
+
+    public int getChunkParallelism() {
+        return chunkParallelism;
+    }
+
+    public UploadQuery setChunkParallelism(final int chunkParallelism) {
+        if (chunkParallelism < 1) {
+            throw new IllegalArgumentException(
+                String.format("Chunk parallelism must be at least 1: %d", chunkParallelism));
+        }
+        this.chunkParallelism = chunkParallelism;
+        return this;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public UploadQuery setChunkSize(final int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException(
+                String.format("Chunk size must be at least 1: %d", chunkSize));
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public boolean isAdaptiveChunkSize() {
+        return adaptiveChunkSize;
+    }
+
+    public UploadQuery setAdaptiveChunkSize(final boolean adaptiveChunkSize) {
+        this.adaptiveChunkSize = adaptiveChunkSize;
+        return this;
+    }
+
+    public UploadJournal getUploadJournal() {
+        return uploadJournal;
+    }
+
+    public UploadQuery setUploadJournal(final UploadJournal uploadJournal) {
+        this.uploadJournal = uploadJournal;
+        return this;
+    }
+
+    public PollingSettings getPollingSettings() {
+        return pollingSettings;
+    }
+
+    public UploadQuery setPollingSettings(final PollingSettings pollingSettings) {
+        this.pollingSettings = pollingSettings;
+        return this;
+    }
+
+    public RetryPolicy getChunkRetryPolicy() {
+        return chunkRetryPolicy;
+    }
+
+    public UploadQuery setChunkRetryPolicy(final RetryPolicy chunkRetryPolicy) {
+        this.chunkRetryPolicy = chunkRetryPolicy;
+        return this;
+    }
 }
@@ -6,6 +6,7 @@
  */
 package com.bynder.sdk.service;
 
+import com.bynder.sdk.api.AmazonS3ApiCache;
 import com.bynder.sdk.api.ApiFactory;
 import com.bynder.sdk.api.BynderApi;
 import com.bynder.sdk.api.OAuthApi;
@@ -15,8 +16,10 @@ import com.bynder.sdk.query.decoder.QueryDecoder;
 import com.bynder.sdk.service.asset.AssetService;
 import com.bynder.sdk.service.collection.CollectionService;
 import com.bynder.sdk.service.oauth.OAuthService;
+import com.bynder.sdk.service.oauth.TokenManager;
 import io.reactivex.Observable;
 import java.util.List;
+import okhttp3.OkHttpClient;
 import retrofit2.Response;
 
 public class BynderClientImpl implements BynderClient {
@@ -34,6 +37,11 @@ public class BynderClientImpl implements BynderClient {
      * Instance of {@link BynderApi} which handles the HTTP communication with the Bynder API.
      */
     private final BynderApi bynderApi;
+    /**
+     * Cache of the Amazon S3 clients used to upload files, sharing the connection pool and
+     * dispatcher of the HTTP clients used for Bynder.
+     */
+    private final AmazonS3ApiCache amazonS3ApiCache;
     /**
      * Configuration settings needed to instantiate the different interfaces and services of the
      * SDK client.
@@ -61,15 +69,25 @@ public class BynderClientImpl implements BynderClient {
     BynderClientImpl(final Configuration configuration, final QueryDecoder decoder) {
         this.configuration = configuration;
         this.queryDecoder = decoder;
-        oauthClient = ApiFactory.createOAuthClient(configuration.getBaseUrl().toString());
-        bynderApi = ApiFactory.createBynderClient(configuration);
+        // every HTTP client of this client is derived from a single root client
+        OkHttpClient rootHttpClient = ApiFactory
+            .createRootOkHttpClient(configuration.getHttpConnectionSettings());
+        oauthClient = ApiFactory
+            .createOAuthClient(configuration.getBaseUrl().toString(), rootHttpClient);
+        // access tokens are refreshed through the OAuth service of this client
+        TokenManager tokenManager = new TokenManager(configuration.getOAuthSettings(),
+            () -> getOAuthService().refreshAccessToken());
+        OkHttpClient httpClient = ApiFactory
+            .createOkHttpClient(rootHttpClient, configuration, tokenManager);
+        bynderApi = ApiFactory.createBynderClient(configuration, httpClient);
+        amazonS3ApiCache = new AmazonS3ApiCache(rootHttpClient);
     }
 
     /**
      * Check {@link BynderClient} for more information.
      */
     @Override
-    public OAuthService getOAuthService() {
+    public synchronized OAuthService getOAuthService() {
         if (oauthService == null) {
             oauthService = OAuthService.Builder.create(configuration, oauthClient, queryDecoder);
         }
@@ -83,7 +101,7 @@ public class BynderClientImpl implements BynderClient {
     @Override
     public AssetService getAssetService() {
         if (assetService == null) {
-            assetService = AssetService.Builder.create(bynderApi, queryDecoder);
+            assetService = AssetService.Builder.create(bynderApi, queryDecoder, amazonS3ApiCache);
         }
 
         return assetService;
@@ -6,9 +6,11 @@
  */
 package com.bynder.sdk.service.amazons3;
 
+import com.bynder.sdk.api.AmazonS3Api;
 import com.bynder.sdk.model.upload.UploadRequest;
 import com.bynder.sdk.service.asset.AssetService;
 import io.reactivex.Observable;
+import okhttp3.RequestBody;
 import retrofit2.Response;
 
 /**
@@ -29,6 +31,20 @@ public interface AmazonS3Service {
     Observable<Response<Void>> uploadPartToAmazon(String filename, UploadRequest uploadRequest,
         int chunkNumber, byte[] fileContent, int numberOfChunks);
 
+    /**
+     * Uploads a file part to Amazon S3, streaming its content from the request body passed as
+     * parameter.
+     *
+     * @param filename Name of the file to be uploaded.
+     * @param uploadRequest Upload request information.
+     * @param chunkNumber Number of the chunk to be uploaded.
+     * @param fileContent Request body with the content of the file part to be uploaded.
+     * @param numberOfChunks Total number of chunks.
+     * @return {@link Observable} with the request {@link Response} information.
+     */
+    Observable<Response<Void>> uploadPartToAmazon(String filename, UploadRequest uploadRequest,
+        int chunkNumber, RequestBody fileContent, int numberOfChunks);
+
     /**
      * Builder class used to create a new instance of {@link AssetService}.
      */
@@ -40,5 +56,9 @@ public interface AmazonS3Service {
         public static AmazonS3Service create(final String bucket) {
             return new AmazonS3ServiceImpl(bucket);
         }
+
+        public static AmazonS3Service create(final AmazonS3Api amazonS3Api) {
+            return new AmazonS3ServiceImpl(amazonS3Api);
+        }
     }
 }
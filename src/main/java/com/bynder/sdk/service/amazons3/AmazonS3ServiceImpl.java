@@ -31,7 +31,16 @@ public class AmazonS3ServiceImpl implements AmazonS3Service {
      * @param bucket AWS bucket with the URL to upload the part to.
      */
     public AmazonS3ServiceImpl(final String bucket) {
-        amazonS3Api = ApiFactory.createAmazonS3Client(bucket);
+        this(ApiFactory.createAmazonS3Client(bucket));
+    }
+
+    /**
+     * Initialises a new instance of the class.
+     *
+     * @param amazonS3Api Instance to handle the HTTP communication with the Amazon S3 API.
+     */
+    public AmazonS3ServiceImpl(final AmazonS3Api amazonS3Api) {
+        this.amazonS3Api = amazonS3Api;
     }
 
     /**
@@ -41,6 +50,18 @@ public class AmazonS3ServiceImpl implements AmazonS3Service {
     public Observable<Response<Void>> uploadPartToAmazon(final String filename,
         final UploadRequest uploadRequest, final int chunkNumber, final byte[] fileContent,
         final int numberOfChunks) {
+        return uploadPartToAmazon(filename, uploadRequest, chunkNumber,
+            RequestBody.create(MediaType.parse("multipart/form-data"), fileContent),
+            numberOfChunks);
+    }
+
+    /**
+     * Check {@link AmazonS3Service} for more information.
+     */
+    @Override
+    public Observable<Response<Void>> uploadPartToAmazon(final String filename,
+        final UploadRequest uploadRequest, final int chunkNumber, final RequestBody fileContent,
+        final int numberOfChunks) {
         String finalKey = String
             .format("%s/p%s", uploadRequest.getMultipartParams().getKey(), chunkNumber);
 
@@ -69,8 +90,7 @@ public class AmazonS3ServiceImpl implements AmazonS3Service {
         params.put("chunks", RequestBody.create(contentType, String.valueOf(numberOfChunks)));
         params.put("Filename", RequestBody.create(contentType, finalKey));
 
-        RequestBody requestFile = RequestBody.create(contentType, fileContent);
-        params.put("file", requestFile);
+        params.put("file", fileContent);
 
         return amazonS3Api.uploadPartToAmazon(params);
     }
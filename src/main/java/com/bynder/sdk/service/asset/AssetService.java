@@ -6,6 +6,7 @@
  */
 package com.bynder.sdk.service.asset;
 
+import com.bynder.sdk.api.AmazonS3ApiCache;
 import com.bynder.sdk.api.BynderApi;
 import com.bynder.sdk.model.Brand;
 import com.bynder.sdk.model.DownloadUrl;
@@ -14,6 +15,7 @@ import com.bynder.sdk.model.Metaproperty;
 import com.bynder.sdk.model.Smartfilter;
 import com.bynder.sdk.model.Tag;
 import com.bynder.sdk.model.Usage;
+import com.bynder.sdk.model.upload.BatchUploadProgress;
 import com.bynder.sdk.model.upload.SaveMediaResponse;
 import com.bynder.sdk.model.upload.UploadProgress;
 import com.bynder.sdk.query.MediaDeleteQuery;
@@ -27,7 +29,9 @@ import com.bynder.sdk.query.UsageDeleteQuery;
 import com.bynder.sdk.query.UsageQuery;
 import com.bynder.sdk.query.decoder.QueryDecoder;
 import com.bynder.sdk.query.upload.UploadQuery;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import retrofit2.Response;
@@ -37,6 +41,11 @@ import retrofit2.Response;
  */
 public interface AssetService {
 
+    /**
+     * Number of files uploaded at the same time by {@link AssetService#uploadFiles(Collection)}.
+     */
+    int DEFAULT_MAX_CONCURRENT_UPLOADS = 4;
+
     /**
      * Get Brands.
      *
@@ -69,6 +78,38 @@ public interface AssetService {
      */
     Observable<Response<List<Media>>> getMediaList(MediaQuery mediaQuery);
 
+    /**
+     * Gets a list of media using query information, reading the response as a stream. Media are
+     * deserialised one by one as they are requested, so a large page is never held in memory as
+     * a whole.
+     *
+     * @param mediaQuery Information to correctly filter/paginate media.
+     * @return {@link Flowable} with the {@link Media} of the page.
+     */
+    Flowable<Media> getMediaListStream(MediaQuery mediaQuery);
+
+    /**
+     * Gets all the media matching a query, walking through the pages lazily. The page limit of
+     * the query sets the size of the pages and its page the first page to get. Pages are fetched
+     * as the media are consumed, until a page with less media than the limit is returned.
+     *
+     * @param mediaQuery Information to filter media and size of the pages.
+     * @return {@link Flowable} with the {@link Media} of all the pages, in page order.
+     */
+    Flowable<Media> getAllMedia(MediaQuery mediaQuery);
+
+    /**
+     * Gets all the media matching a query, fetching several pages at the same time. Meant for
+     * exports of the whole catalog, where the time to get each page dominates.
+     *
+     * @param mediaQuery Information to filter media and size of the pages.
+     * @param maxConcurrentPages Max number of pages fetched at the same time.
+     * @param ordered Whether the media are emitted in page order, or as soon as their page is
+     * fetched.
+     * @return {@link Flowable} with the {@link Media} of all the pages.
+     */
+    Flowable<Media> getAllMedia(MediaQuery mediaQuery, int maxConcurrentPages, boolean ordered);
+
     /**
      * Gets all the information for a specific media. This is needed to get the media items of a
      * media asset.
@@ -151,6 +192,27 @@ public interface AssetService {
      */
     Observable<UploadProgress> uploadFileWithProgress(UploadQuery uploadQuery);
 
+    /**
+     * Uploads several files, resolving the Amazon S3 endpoint and creating the Amazon S3 client
+     * only once for the whole batch. Up to {@link AssetService#DEFAULT_MAX_CONCURRENT_UPLOADS}
+     * files are uploaded at the same time.
+     *
+     * @param uploadQueries Upload queries with the information to upload each file.
+     * @return {@link Observable} with the {@link BatchUploadProgress} information of every file.
+     */
+    Observable<BatchUploadProgress> uploadFiles(Collection<UploadQuery> uploadQueries);
+
+    /**
+     * Uploads several files, resolving the Amazon S3 endpoint and creating the Amazon S3 client
+     * only once for the whole batch. A failed upload does not stop the rest of the batch.
+     *
+     * @param uploadQueries Upload queries with the information to upload each file.
+     * @param maxConcurrentUploads Maximum number of files being uploaded at the same time.
+     * @return {@link Observable} with the {@link BatchUploadProgress} information of every file.
+     */
+    Observable<BatchUploadProgress> uploadFiles(Collection<UploadQuery> uploadQueries,
+        int maxConcurrentUploads);
+
     /**
      * Builder class used to create a new instance of {@link AssetService}.
      */
@@ -163,5 +225,10 @@ public interface AssetService {
             final QueryDecoder queryDecoder) {
             return new AssetServiceImpl(bynderApi, queryDecoder);
         }
+
+        public static AssetService create(final BynderApi bynderApi,
+            final QueryDecoder queryDecoder, final AmazonS3ApiCache amazonS3ApiCache) {
+            return new AssetServiceImpl(bynderApi, queryDecoder, amazonS3ApiCache);
+        }
     }
 }
@@ -6,6 +6,8 @@
  */
 package com.bynder.sdk.service.asset;
 
+import com.bynder.sdk.api.AmazonS3ApiCache;
+import com.bynder.sdk.api.ApiFactory;
 import com.bynder.sdk.api.BynderApi;
 import com.bynder.sdk.model.Brand;
 import com.bynder.sdk.model.DownloadUrl;
@@ -14,6 +16,7 @@ import com.bynder.sdk.model.Metaproperty;
 import com.bynder.sdk.model.Smartfilter;
 import com.bynder.sdk.model.Tag;
 import com.bynder.sdk.model.Usage;
+import com.bynder.sdk.model.upload.BatchUploadProgress;
 import com.bynder.sdk.model.upload.SaveMediaResponse;
 import com.bynder.sdk.model.upload.UploadProgress;
 import com.bynder.sdk.query.MediaDeleteQuery;
@@ -28,9 +31,14 @@ import com.bynder.sdk.query.UsageQuery;
 import com.bynder.sdk.query.decoder.QueryDecoder;
 import com.bynder.sdk.query.upload.UploadQuery;
 import com.bynder.sdk.service.upload.FileUploader;
+import com.bynder.sdk.util.JsonArrayFlowable;
+import com.google.gson.Gson;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import retrofit2.HttpException;
 import retrofit2.Response;
 
 /**
@@ -50,6 +58,14 @@ public class AssetServiceImpl implements AssetService {
      * Instance to upload files to Bynder.
      */
     private final FileUploader fileUploader;
+    /**
+     * Instance to walk through the pages of media lists.
+     */
+    private final MediaPaginator mediaPaginator;
+    /**
+     * Instance used to deserialise the media of streamed responses.
+     */
+    private final Gson gson;
 
     /**
      * Initialises a new instance of the class.
@@ -61,6 +77,24 @@ public class AssetServiceImpl implements AssetService {
         this.bynderApi = bynderApi;
         this.queryDecoder = queryDecoder;
         this.fileUploader = new FileUploader(bynderApi, queryDecoder);
+        this.mediaPaginator = new MediaPaginator(bynderApi, queryDecoder);
+        this.gson = ApiFactory.createGson();
+    }
+
+    /**
+     * Initialises a new instance of the class.
+     *
+     * @param bynderApi Instance to handle the HTTP communication with the Bynder API.
+     * @param queryDecoder Query decoder.
+     * @param amazonS3ApiCache Cache of the Amazon S3 clients used to upload files.
+     */
+    public AssetServiceImpl(final BynderApi bynderApi, final QueryDecoder queryDecoder,
+        final AmazonS3ApiCache amazonS3ApiCache) {
+        this.bynderApi = bynderApi;
+        this.queryDecoder = queryDecoder;
+        this.fileUploader = new FileUploader(bynderApi, queryDecoder, amazonS3ApiCache);
+        this.mediaPaginator = new MediaPaginator(bynderApi, queryDecoder);
+        this.gson = ApiFactory.createGson();
     }
 
     /**
@@ -98,6 +132,38 @@ public class AssetServiceImpl implements AssetService {
         return bynderApi.getMediaList(params);
     }
 
+    /**
+     * Check {@link AssetService} for more information.
+     */
+    @Override
+    public Flowable<Media> getMediaListStream(final MediaQuery mediaQuery) {
+        Map<String, String> params = queryDecoder.decode(mediaQuery);
+        return bynderApi.getMediaListStream(params).singleOrError()
+            .flatMapPublisher(mediaListResponse -> {
+                if (!mediaListResponse.isSuccessful()) {
+                    throw new HttpException(mediaListResponse);
+                }
+                return JsonArrayFlowable.create(mediaListResponse.body(), gson, Media.class);
+            });
+    }
+
+    /**
+     * Check {@link AssetService} for more information.
+     */
+    @Override
+    public Flowable<Media> getAllMedia(final MediaQuery mediaQuery) {
+        return mediaPaginator.getMedia(mediaQuery);
+    }
+
+    /**
+     * Check {@link AssetService} for more information.
+     */
+    @Override
+    public Flowable<Media> getAllMedia(final MediaQuery mediaQuery, final int maxConcurrentPages,
+        final boolean ordered) {
+        return mediaPaginator.getMedia(mediaQuery, maxConcurrentPages, ordered);
+    }
+
     /**
      * Check {@link AssetService} for more information.
      */
@@ -189,4 +255,22 @@ public class AssetServiceImpl implements AssetService {
     public Observable<UploadProgress> uploadFileWithProgress(final UploadQuery uploadQuery) {
         return fileUploader.uploadFileWithProgress(uploadQuery);
     }
+
+    /**
+     * Check {@link AssetService} for more information.
+     */
+    @Override
+    public Observable<BatchUploadProgress> uploadFiles(
+        final Collection<UploadQuery> uploadQueries) {
+        return fileUploader.uploadFiles(uploadQueries, DEFAULT_MAX_CONCURRENT_UPLOADS);
+    }
+
+    /**
+     * Check {@link AssetService} for more information.
+     */
+    @Override
+    public Observable<BatchUploadProgress> uploadFiles(
+        final Collection<UploadQuery> uploadQueries, final int maxConcurrentUploads) {
+        return fileUploader.uploadFiles(uploadQueries, maxConcurrentUploads);
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ */
+package com.bynder.sdk.service.asset;
+
+import com.bynder.sdk.api.BynderApi;
+import com.bynder.sdk.model.Media;
+import com.bynder.sdk.query.MediaQuery;
+import com.bynder.sdk.query.decoder.QueryDecoder;
+import io.reactivex.Flowable;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import retrofit2.HttpException;
+
+/**
+ * Class used to walk through all the pages of a media list. Pages are requested lazily, as the
+ * media of the previous pages are consumed, until a page with less media than the page limit is
+ * returned.
+ */
+public class MediaPaginator {
+
+    /**
+     * Page limit used when the media query does not specify one.
+     */
+    public static final int DEFAULT_LIMIT = 50;
+    /**
+     * Number of pages requested ahead of the page being consumed.
+     */
+    private static final int PREFETCHED_PAGES = 1;
+    /**
+     * Name of the page number parameter.
+     */
+    private static final String PAGE_PARAMETER = "page";
+    /**
+     * Name of the page limit parameter.
+     */
+    private static final String LIMIT_PARAMETER = "limit";
+
+    /**
+     * Instance of {@link BynderApi} which handles the HTTP communication.
+     */
+    private final BynderApi bynderApi;
+    /**
+     * Instance of {@link QueryDecoder} to decode query objects into API parameters.
+     */
+    private final QueryDecoder queryDecoder;
+
+    /**
+     * Creates a new instance of the class.
+     *
+     * @param bynderApi Instance to handle the HTTP communication with the Bynder API.
+     * @param queryDecoder Query decoder.
+     */
+    public MediaPaginator(final BynderApi bynderApi, final QueryDecoder queryDecoder) {
+        this.bynderApi = bynderApi;
+        this.queryDecoder = queryDecoder;
+    }
+
+    /**
+     * Gets all the media matching a query, starting from the page of the query (or the first page
+     * if not set). The next page is fetched while the media of the current one are consumed, so
+     * at most two pages are kept in memory.
+     *
+     * @param mediaQuery Information to filter media and size of the pages.
+     * @return {@link Flowable} with the {@link Media} of all the pages, in page order.
+     */
+    public Flowable<Media> getMedia(final MediaQuery mediaQuery) {
+        return getMedia(mediaQuery, PREFETCHED_PAGES, true);
+    }
+
+    /**
+     * Gets all the media matching a query, starting from the page of the query (or the first page
+     * if not set), fetching several pages at the same time. Once a page shorter than the limit is
+     * returned no further pages are requested, and the pages already requested past it are
+     * dropped.
+     *
+     * @param mediaQuery Information to filter media and size of the pages.
+     * @param maxConcurrentPages Max number of pages fetched at the same time.
+     * @param ordered Whether the media are emitted in page order. If false, the media of every
+     * page are emitted as soon as the page is fetched, so a slow page does not hold back the
+     * following ones.
+     * @return {@link Flowable} with the {@link Media} of all the pages.
+     */
+    public Flowable<Media> getMedia(final MediaQuery mediaQuery, final int maxConcurrentPages,
+        final boolean ordered) {
+        int limit = mediaQuery.getLimit() != null ? mediaQuery.getLimit() : DEFAULT_LIMIT;
+        int firstPage = mediaQuery.getPage() != null ? mediaQuery.getPage() : 1;
+        if (limit < 1 || firstPage < 1) {
+            throw new IllegalArgumentException(
+                String.format("Invalid page %d or limit %d", firstPage, limit));
+        }
+        if (maxConcurrentPages < 1) {
+            throw new IllegalArgumentException(
+                String.format("Invalid max concurrent pages: %d", maxConcurrentPages));
+        }
+
+        Map<String, String> params = queryDecoder.decode(mediaQuery);
+        params.put(LIMIT_PARAMETER, String.valueOf(limit));
+
+        return Flowable.defer(() -> {
+            AtomicInteger lastPage = new AtomicInteger(Integer.MAX_VALUE);
+            Flowable<Integer> pages = Flowable.range(firstPage, Integer.MAX_VALUE - firstPage)
+                .takeWhile(page -> page <= lastPage.get());
+            Function<Integer, Flowable<List<Media>>> pageMapper = page ->
+                getPage(params, page, limit, lastPage).subscribeOn(Schedulers.io());
+
+            Flowable<List<Media>> mediaLists = ordered
+                ? pages.concatMapEager(pageMapper, maxConcurrentPages, 1)
+                : pages.flatMap(pageMapper, false, maxConcurrentPages, 1);
+            // the page being consumed is held here, so only the next ones are fetched ahead
+            return mediaLists.concatMapIterable(mediaList -> mediaList, 1);
+        });
+    }
+
+    /**
+     * Gets a single page of media. If the page has less media than the page limit, it is
+     * recorded as the last page so no further pages are requested.
+     *
+     * @param params Parameters of the media query.
+     * @param page Number of the page.
+     * @param limit Max number of media in a page.
+     * @param lastPage Number of the last page found so far.
+     * @return {@link Flowable} with the media of the page.
+     */
+    private Flowable<List<Media>> getPage(final Map<String, String> params, final int page,
+        final int limit, final AtomicInteger lastPage) {
+        Map<String, String> pageParams = new HashMap<>(params);
+        pageParams.put(PAGE_PARAMETER, String.valueOf(page));
+
+        return bynderApi.getMediaList(pageParams).singleOrError().map(mediaListResponse -> {
+            if (!mediaListResponse.isSuccessful()) {
+                throw new HttpException(mediaListResponse);
+            }
+
+            List<Media> mediaList = mediaListResponse.body();
+            if (mediaList == null) {
+                mediaList = Collections.emptyList();
+            }
+            if (mediaList.size() < limit) {
+                lastPage.accumulateAndGet(page, Math::min);
+            }
+            // pages requested ahead past the last one are dropped
+            return page <= lastPage.get() ? mediaList : Collections.<Media>emptyList();
+        }).toFlowable();
+    }
+}
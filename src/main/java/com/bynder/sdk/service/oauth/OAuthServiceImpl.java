@@ -90,8 +90,7 @@ public class OAuthServiceImpl implements OAuthService {
         Observable<Response<Token>> accessTokenObservable = oauthClient.getAccessToken(params);
 
         return accessTokenObservable.map(response -> {
-            Token token = response.body();
-            token.setAccessTokenExpiration();
+            Token token = response.body().withAccessTokenExpiration();
             configuration.getOAuthSettings().setToken(token);
             return token;
         });
@@ -110,10 +109,9 @@ public class OAuthServiceImpl implements OAuthService {
         Observable<Response<Token>> refreshTokenObservable = oauthClient.getAccessToken(params);
 
         return refreshTokenObservable.map(response -> {
-            Token token = response.body();
-            token.setAccessTokenExpiration();
+            Token token = response.body().withAccessTokenExpiration();
             configuration.getOAuthSettings().refreshToken(token);
-            return token;
+            return configuration.getOAuthSettings().getToken();
         });
     }
 }
\ No newline at end of file
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ */
+package com.bynder.sdk.service.oauth;
+
+import com.bynder.sdk.configuration.OAuthSettings;
+import com.bynder.sdk.exception.BynderRuntimeException;
+import com.bynder.sdk.model.oauth.Token;
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.Schedulers;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provides the access token of the OAuth settings to the requests sent to Bynder, refreshing it
+ * when it is about to expire.
+ *
+ * <p>Only one refresh runs at a time: requests finding the token expiring while a refresh is in
+ * progress wait for it and use its result, instead of refreshing the token again. Besides, once
+ * a token is used, a refresh is scheduled in the background shortly before the token expires, so
+ * requests do not have to wait for it. A token rejected by Bynder before its expiration, because
+ * of clock skew or revocation, can be refreshed with
+ * {@link TokenManager#refreshRejectedAccessToken(String)}.
+ */
+public class TokenManager {
+
+    /**
+     * Seconds before the expiration of the access token from which requests refresh it.
+     */
+    public static final int EXPIRATION_MARGIN_SECONDS = 15;
+    /**
+     * Seconds before the expiration of the access token at which it is refreshed in the
+     * background.
+     */
+    public static final int PROACTIVE_REFRESH_SECONDS = 60;
+
+    /**
+     * OAuth settings holding the token.
+     */
+    private final OAuthSettings oauthSettings;
+    /**
+     * Refreshes the token of the OAuth settings.
+     */
+    private final Callable<Observable<Token>> tokenRefresher;
+    /**
+     * Scheduler on which the background refreshes run.
+     */
+    private final Scheduler scheduler;
+    /**
+     * Lock held while refreshing the token.
+     */
+    private final Object refreshLock = new Object();
+    /**
+     * Token for which a background refresh has been scheduled.
+     */
+    private volatile Token scheduledToken;
+    /**
+     * Background refresh scheduled.
+     */
+    private Disposable scheduledRefresh;
+
+    /**
+     * Initialises a new instance of the class.
+     *
+     * @param oauthSettings OAuth settings holding the token.
+     * @param tokenRefresher Refreshes the token of the OAuth settings, returning the new token.
+     */
+    public TokenManager(final OAuthSettings oauthSettings,
+        final Callable<Observable<Token>> tokenRefresher) {
+        this(oauthSettings, tokenRefresher, Schedulers.io());
+    }
+
+    /**
+     * Initialises a new instance of the class.
+     *
+     * @param oauthSettings OAuth settings holding the token.
+     * @param tokenRefresher Refreshes the token of the OAuth settings, returning the new token.
+     * @param scheduler Scheduler on which the background refreshes run.
+     */
+    public TokenManager(final OAuthSettings oauthSettings,
+        final Callable<Observable<Token>> tokenRefresher, final Scheduler scheduler) {
+        this.oauthSettings = oauthSettings;
+        this.tokenRefresher = tokenRefresher;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Gets the access token to send to Bynder, refreshing it first if it is about to expire.
+     *
+     * @return Access token.
+     */
+    public String getAccessToken() {
+        Token token = oauthSettings.getToken();
+        if (token == null) {
+            throw new BynderRuntimeException("Token is not defined in Configuration");
+        }
+
+        if (isExpiring(token, EXPIRATION_MARGIN_SECONDS)) {
+            token = refreshToken(token, EXPIRATION_MARGIN_SECONDS);
+        }
+        if (token != scheduledToken) {
+            scheduleRefresh(token);
+        }
+
+        return token.getAccessToken();
+    }
+
+    /**
+     * Refreshes the access token after Bynder rejected it, unless another thread already replaced
+     * it in the meantime.
+     *
+     * @param rejectedAccessToken Access token rejected by Bynder.
+     * @return Access token to retry the request with.
+     */
+    public String refreshRejectedAccessToken(final String rejectedAccessToken) {
+        synchronized (refreshLock) {
+            Token token = oauthSettings.getToken();
+            if (token == null) {
+                throw new BynderRuntimeException("Token is not defined in Configuration");
+            }
+            if (!token.getAccessToken().equals(rejectedAccessToken)) {
+                return token.getAccessToken();
+            }
+
+            return callTokenRefresher().getAccessToken();
+        }
+    }
+
+    /**
+     * Refreshes the token, unless another thread already replaced it while waiting for the lock.
+     *
+     * @param expiringToken Token found to be expiring.
+     * @param marginSeconds Seconds before the expiration from which the token is refreshed.
+     * @return Token to use.
+     */
+    private Token refreshToken(final Token expiringToken, final int marginSeconds) {
+        synchronized (refreshLock) {
+            Token token = oauthSettings.getToken();
+            if (token == null) {
+                throw new BynderRuntimeException("Token is not defined in Configuration");
+            }
+            if (token != expiringToken && !isExpiring(token, marginSeconds)) {
+                return token;
+            }
+
+            return callTokenRefresher();
+        }
+    }
+
+    /**
+     * Refreshes the token of the OAuth settings. Must be called holding the refresh lock.
+     *
+     * @return New token.
+     */
+    private Token callTokenRefresher() {
+        Token newToken;
+        try {
+            newToken = tokenRefresher.call().blockingSingle();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new BynderRuntimeException("Token could not be refreshed", e);
+        }
+
+        // trigger callback method
+        oauthSettings.callback(newToken);
+        return oauthSettings.getToken();
+    }
+
+    /**
+     * Schedules the background refresh of a token shortly before it expires. Tokens that are not
+     * used are not refreshed again, so an idle client stops refreshing its token.
+     *
+     * @param token Token in use.
+     */
+    private void scheduleRefresh(final Token token) {
+        synchronized (refreshLock) {
+            if (token == scheduledToken) {
+                return;
+            }
+            if (scheduledRefresh != null) {
+                scheduledRefresh.dispose();
+            }
+
+            scheduledToken = token;
+            scheduledRefresh = null;
+            if (token.getAccessTokenExpirationMillis() == 0) {
+                return;
+            }
+
+            long delayMillis = token.getAccessTokenExpirationMillis()
+                - TimeUnit.SECONDS.toMillis(PROACTIVE_REFRESH_SECONDS) - System.currentTimeMillis();
+            scheduledRefresh = scheduler.scheduleDirect(() -> {
+                try {
+                    refreshToken(token, PROACTIVE_REFRESH_SECONDS);
+                } catch (RuntimeException e) {
+                    // the token is refreshed by the next request instead
+                }
+            }, Math.max(0, delayMillis), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Checks if a token is expiring within a number of seconds. Tokens without expiration date
+     * are considered expiring, so they are refreshed to get one.
+     *
+     * @param token Token to check.
+     * @param seconds Number of seconds desired for the check.
+     * @return True if the token expires within the number of seconds.
+     */
+    private static boolean isExpiring(final Token token, final int seconds) {
+        long expirationMillis = token.getAccessTokenExpirationMillis();
+        return expirationMillis == 0
+            || expirationMillis - TimeUnit.SECONDS.toMillis(seconds) < System.currentTimeMillis();
+    }
+}
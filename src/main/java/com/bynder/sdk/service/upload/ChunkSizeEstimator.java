@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ */
+package com.bynder.sdk.service.upload;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chooses the chunk size of the uploads from the throughput measured on the chunks already
+ * uploaded, so that a chunk takes about {@link ChunkSizeEstimator#TARGET_CHUNK_MILLIS} to be
+ * processed. On fast links, bigger chunks save the round trips of uploading and registering many
+ * small chunks.
+ *
+ * <p>The chunk size of an upload is chosen when it starts and kept until it finishes, so its
+ * chunks can be uploaded in parallel and resumed from an upload journal.
+ */
+public class ChunkSizeEstimator {
+
+    /**
+     * Max chunk size chosen.
+     */
+    public static final int MAX_CHUNK_SIZE = 1024 * 1024 * 256;
+    /**
+     * Time in milliseconds a chunk should take to be uploaded and registered.
+     */
+    public static final long TARGET_CHUNK_MILLIS = 5000;
+    /**
+     * Chunk sizes chosen are multiples of this size.
+     */
+    private static final int CHUNK_SIZE_UNIT = 1024 * 1024;
+    /**
+     * Weight of the last chunk in the throughput estimate.
+     */
+    private static final double SMOOTHING_FACTOR = 0.3;
+
+    /**
+     * Estimated throughput of a chunk in bytes per second, 0 until a chunk is measured.
+     */
+    private double bytesPerSecond;
+
+    /**
+     * Records the time taken to process a chunk.
+     *
+     * @param chunkSize Size of the chunk in bytes.
+     * @param elapsedNanos Time taken to upload and register the chunk, in nanoseconds.
+     */
+    public synchronized void recordChunk(final long chunkSize, final long elapsedNanos) {
+        if (elapsedNanos <= 0) {
+            return;
+        }
+
+        double chunkBytesPerSecond = (double) chunkSize * TimeUnit.SECONDS.toNanos(1)
+            / elapsedNanos;
+        bytesPerSecond = bytesPerSecond == 0 ? chunkBytesPerSecond
+            : bytesPerSecond + SMOOTHING_FACTOR * (chunkBytesPerSecond - bytesPerSecond);
+    }
+
+    /**
+     * Gets the estimated throughput of a chunk.
+     *
+     * @return Throughput in bytes per second, 0 if no chunk has been measured yet.
+     */
+    public synchronized double getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    /**
+     * Gets the chunk size for the upload of a file. The size grows with the throughput, but the
+     * file is still split into enough chunks to upload them in parallel.
+     *
+     * @param fileSize Size of the file in bytes.
+     * @param minChunkSize Min chunk size, used until the throughput is measured.
+     * @param chunkParallelism Number of chunks uploaded at the same time.
+     * @return Chunk size in bytes.
+     */
+    public int getChunkSize(final long fileSize, final int minChunkSize,
+        final int chunkParallelism) {
+        double targetChunkSize = getBytesPerSecond() * TARGET_CHUNK_MILLIS
+            / TimeUnit.SECONDS.toMillis(1);
+        long chunkSize = (long) Math.min(Math.min(targetChunkSize, fileSize / chunkParallelism),
+            MAX_CHUNK_SIZE);
+
+        return (int) Math.max(minChunkSize, chunkSize / CHUNK_SIZE_UNIT * CHUNK_SIZE_UNIT);
+    }
+}
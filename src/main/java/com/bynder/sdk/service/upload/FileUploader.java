@@ -6,28 +6,40 @@
  */
 package com.bynder.sdk.service.upload;
 
+import com.bynder.sdk.api.AmazonS3ApiCache;
 import com.bynder.sdk.api.BynderApi;
+import com.bynder.sdk.configuration.PollingSettings;
+import com.bynder.sdk.configuration.RetryPolicy;
 import com.bynder.sdk.exception.BynderUploadException;
-import com.bynder.sdk.model.upload.FileConverterStatus;
+import com.bynder.sdk.model.upload.BatchUploadProgress;
 import com.bynder.sdk.model.upload.FinaliseResponse;
 import com.bynder.sdk.model.upload.PollStatus;
 import com.bynder.sdk.model.upload.SaveMediaResponse;
+import com.bynder.sdk.model.upload.UploadJournalEntry;
 import com.bynder.sdk.model.upload.UploadProcessData;
 import com.bynder.sdk.model.upload.UploadProgress;
 import com.bynder.sdk.model.upload.UploadRequest;
+import com.bynder.sdk.model.upload.UploadSource;
 import com.bynder.sdk.query.decoder.QueryDecoder;
 import com.bynder.sdk.query.upload.FinaliseUploadQuery;
-import com.bynder.sdk.query.upload.PollStatusQuery;
 import com.bynder.sdk.query.upload.RegisterChunkQuery;
 import com.bynder.sdk.query.upload.RequestUploadQuery;
 import com.bynder.sdk.query.upload.SaveMediaQuery;
 import com.bynder.sdk.query.upload.UploadQuery;
 import com.bynder.sdk.service.amazons3.AmazonS3Service;
 import io.reactivex.Observable;
-import io.reactivex.ObservableEmitter;
+import io.reactivex.schedulers.Schedulers;
 import java.io.File;
-import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.OkHttpClient;
+import okhttp3.RequestBody;
+import retrofit2.HttpException;
 import retrofit2.Response;
 
 /**
@@ -36,40 +48,50 @@ import retrofit2.Response;
 public class FileUploader {
 
     /**
-     * Max chunk size.
+     * Instance of {@link BynderApi} which handles the HTTP communication.
      */
-    private static final int MAX_CHUNK_SIZE = 1024 * 1024 * 5;
+    private final BynderApi bynderApi;
     /**
-     * Max polling iterations to wait for the file to be converted.
+     * Instance of {@link QueryDecoder} to decode query objects into API parameters.
      */
-    private static final int MAX_POLLING_ITERATIONS = 60;
+    private final QueryDecoder queryDecoder;
     /**
-     * Idle time between polling iterations.
+     * Cache of the Amazon S3 clients used to upload parts (chunks), by bucket URL.
      */
-    private static final int POLLING_IDLE_TIME = 2000;
-
+    private final AmazonS3ApiCache amazonS3ApiCache;
     /**
-     * Instance of {@link BynderApi} which handles the HTTP communication.
+     * Coordinator batching the conversion status polls of concurrent uploads.
      */
-    private final BynderApi bynderApi;
+    private final PollStatusCoordinator pollStatusCoordinator;
     /**
-     * Instance of {@link QueryDecoder} to decode query objects into API parameters.
+     * Estimator of the chunk size of the uploads with an adaptive chunk size.
      */
-    private final QueryDecoder queryDecoder;
+    private final ChunkSizeEstimator chunkSizeEstimator;
+
     /**
-     * Amazon S3 service used to upload parts (chunks).
+     * Creates a new instance of the class.
+     *
+     * @param bynderApi Instance to handle the HTTP communication with the Bynder API.
+     * @param queryDecoder Query decoder.
      */
-    private AmazonS3Service amazonS3Service;
+    public FileUploader(final BynderApi bynderApi, final QueryDecoder queryDecoder) {
+        this(bynderApi, queryDecoder, new AmazonS3ApiCache(new OkHttpClient()));
+    }
 
     /**
      * Creates a new instance of the class.
      *
      * @param bynderApi Instance to handle the HTTP communication with the Bynder API.
      * @param queryDecoder Query decoder.
+     * @param amazonS3ApiCache Cache of the Amazon S3 clients used to upload parts (chunks).
      */
-    public FileUploader(final BynderApi bynderApi, final QueryDecoder queryDecoder) {
+    public FileUploader(final BynderApi bynderApi, final QueryDecoder queryDecoder,
+        final AmazonS3ApiCache amazonS3ApiCache) {
         this.bynderApi = bynderApi;
         this.queryDecoder = queryDecoder;
+        this.amazonS3ApiCache = amazonS3ApiCache;
+        this.pollStatusCoordinator = new PollStatusCoordinator(bynderApi, queryDecoder);
+        this.chunkSizeEstimator = new ChunkSizeEstimator();
     }
 
     /**
@@ -102,199 +124,380 @@ public class FileUploader {
      * @return {@link Observable} with the {@link UploadProgress} information.
      */
     public Observable<UploadProgress> uploadFileWithProgress(final UploadQuery uploadQuery) {
-        return Observable.create(observableEmitter -> {
-            try {
-                // S3 endpoint
-                Observable<Response<String>> s3EndpointObs = getClosestS3Endpoint();
-                s3EndpointObs.subscribe(awsBucketResponse -> {
-                    this.amazonS3Service = AmazonS3Service.Builder.create(awsBucketResponse.body());
-                    // Get Upload Information
-                    final File file = new File(uploadQuery.getFilepath());
-                    Observable<Response<UploadRequest>> uploadInformationObs = getUploadInformation(
-                        new RequestUploadQuery(file.getName()));
-                    uploadInformationObs.subscribe(uploadRequestResponse -> {
-                        UploadRequest uploadRequest = uploadRequestResponse.body();
-                        if (!file.exists()) {
-                            observableEmitter.onError(new BynderUploadException(String
-                                .format("File: %s not found. Upload not completed.",
-                                    file.getName())));
-                            return;
+        return getClosestS3Endpoint().concatMap(awsBucketResponse -> uploadFileWithProgress(
+            uploadQuery, createAmazonS3Service(awsBucketResponse.body())));
+    }
+
+    /**
+     * Uploads several files, resolving the Amazon S3 endpoint and creating the
+     * {@link AmazonS3Service} only once for all of them. Up to the specified number of files are
+     * uploaded at the same time. A failed upload does not stop the rest of the batch, its error
+     * is emitted as the last progress of the file instead.
+     *
+     * @param uploadQueries Upload queries with the information to upload each file.
+     * @param maxConcurrentUploads Maximum number of files being uploaded at the same time.
+     * @return {@link Observable} with the {@link BatchUploadProgress} information of every file.
+     */
+    public Observable<BatchUploadProgress> uploadFiles(
+        final Collection<UploadQuery> uploadQueries, final int maxConcurrentUploads) {
+        if (maxConcurrentUploads < 1) {
+            throw new IllegalArgumentException(String
+                .format("Max concurrent uploads must be at least 1: %d", maxConcurrentUploads));
+        }
+
+        return getClosestS3Endpoint().concatMap(awsBucketResponse -> {
+            AmazonS3Service amazonS3Service = createAmazonS3Service(awsBucketResponse.body());
+            return Observable.fromIterable(uploadQueries).flatMap(
+                uploadQuery -> uploadFileWithProgress(uploadQuery, amazonS3Service)
+                    .map(uploadProgress -> new BatchUploadProgress(uploadQuery, uploadProgress))
+                    .onErrorReturn(throwable -> new BatchUploadProgress(uploadQuery, throwable))
+                    .subscribeOn(Schedulers.io()), maxConcurrentUploads);
+        });
+    }
+
+    /**
+     * Uploads a file with the information specified in the query parameter, using the specified
+     * {@link AmazonS3Service} to upload the parts. The upload source of the query is closed when
+     * the upload terminates, whether it succeeds or fails.
+     *
+     * @param uploadQuery Upload query with the information to upload the file.
+     * @param amazonS3Service Amazon S3 service used to upload parts (chunks).
+     * @return {@link Observable} with the {@link UploadProgress} information.
+     */
+    private Observable<UploadProgress> uploadFileWithProgress(final UploadQuery uploadQuery,
+        final AmazonS3Service amazonS3Service) {
+        return Observable.using(uploadQuery::getUploadSource,
+            uploadSource -> uploadFileWithProgress(uploadQuery, uploadSource, amazonS3Service),
+            UploadSource::close);
+    }
+
+    /**
+     * Uploads the content of an upload source with the information specified in the query
+     * parameter, using the specified {@link AmazonS3Service} to upload the parts.
+     *
+     * @param uploadQuery Upload query with the information to upload the file.
+     * @param uploadSource Source of the content to be uploaded.
+     * @param amazonS3Service Amazon S3 service used to upload parts (chunks).
+     * @return {@link Observable} with the {@link UploadProgress} information.
+     */
+    private Observable<UploadProgress> uploadFileWithProgress(final UploadQuery uploadQuery,
+        final UploadSource uploadSource, final AmazonS3Service amazonS3Service) {
+        final UploadJournal uploadJournal = uploadSource.getFile() != null
+            ? uploadQuery.getUploadJournal() : null;
+        return startUpload(uploadSource, uploadQuery, uploadJournal)
+            .concatMap(uploadJournalEntry -> {
+                UploadRequest uploadRequest = uploadJournalEntry.getUploadRequest();
+                if (!uploadSource.exists()) {
+                    return Observable.error(new BynderUploadException(String
+                        .format("File: %s not found. Upload not completed.",
+                            uploadSource.getName())));
+                }
+
+                // Upload Chunks
+                return uploadParts(uploadSource, uploadJournalEntry,
+                    uploadQuery.getChunkParallelism(), uploadQuery.getChunkRetryPolicy(),
+                    uploadJournal, amazonS3Service).concatMap(uploadProgress -> {
+                        if (!uploadProgress.areChunksFinished()) {
+                            return Observable.just(uploadProgress);
                         }
 
-                        // Upload Chunks
-                        uploadParts(file, uploadRequest).subscribe(uploadProgress -> {
-                            // Emit progress
-                            observableEmitter.onNext(uploadProgress);
-
-                            if (uploadProgress.areChunksFinished()) {
-                                // Finalising
-                                Observable<Response<FinaliseResponse>> finaliseUploadObs =
-                                    finaliseUpload(
-                                    new FinaliseUploadQuery(uploadRequest.getS3File().getUploadId(),
-                                        uploadRequest.getS3File().getTargetId(),
-                                        uploadRequest.getS3Filename(),
-                                        uploadProgress.getUploadedChunks()));
-
-                                finaliseUploadObs.subscribe(finaliseResponse -> {
-                                    String importId = finaliseResponse.body().getImportId();
-                                    checkUploadFinished(importId)
-                                        .subscribe(hasFinishedSuccessfully -> {
-                                            if (hasFinishedSuccessfully) {
-                                                // Save Media
-                                                saveUploadedMedia(uploadQuery, file, importId)
-                                                    .subscribe(saveMediaResponse -> {
-                                                        // Successful Upload
-                                                        uploadProgress.setSaveMediaResponse(
-                                                            saveMediaResponse);
-                                                        uploadProgress.setFinished(true);
-                                                        observableEmitter.onNext(uploadProgress);
-                                                        observableEmitter.onComplete();
-                                                    }, throwable -> {
-                                                        // Failed Upload
-                                                        observableEmitter.onError(throwable);
-                                                    });
-                                            } else {
-                                                observableEmitter.onError(new BynderUploadException(
-                                                    "Converter did not finished. Upload not "
-                                                        + "completed."));
-                                            }
-                                        }, throwable -> observableEmitter.onError(throwable));
-                                }, throwable -> observableEmitter.onError(throwable));
-                            }
-                        }, throwable -> observableEmitter.onError(throwable));
-                    }, throwable -> observableEmitter.onError(throwable));
-                }, throwable -> observableEmitter.onError(throwable));
-            } catch (Exception e) {
-                observableEmitter.onError(e);
+                        // Finalising
+                        return finaliseUpload(
+                            new FinaliseUploadQuery(uploadRequest.getS3File().getUploadId(),
+                                uploadRequest.getS3File().getTargetId(),
+                                uploadRequest.getS3Filename(),
+                                uploadProgress.getUploadedChunks()))
+                            .concatMap(finaliseResponse -> {
+                                if (uploadJournal != null) {
+                                    uploadJournal.remove(uploadSource.getFile());
+                                }
+                                String importId = finaliseResponse.body().getImportId();
+                                return checkUploadFinished(importId,
+                                    uploadQuery.getPollingSettings())
+                                    .concatMap(hasFinishedSuccessfully -> {
+                                        if (!hasFinishedSuccessfully) {
+                                            return Observable.error(new BynderUploadException(
+                                                "Converter did not finished. Upload not "
+                                                    + "completed."));
+                                        }
+                                        // Save Media
+                                        return saveUploadedMedia(uploadQuery,
+                                            uploadSource.getName(), importId);
+                                    });
+                            })
+                            .map(saveMediaResponse -> {
+                                // Successful Upload
+                                uploadProgress.setSaveMediaResponse(saveMediaResponse);
+                                uploadProgress.setFinished(true);
+                                return uploadProgress;
+                            })
+                            .startWith(uploadProgress);
+                    });
+            })
+            .doOnError(throwable -> {
+                // an upload rejected by Bynder or Amazon cannot be resumed, only transient
+                // failures keep the journal entry
+                if (uploadJournal != null
+                    && !isTransient(throwable, uploadQuery.getChunkRetryPolicy())) {
+                    uploadJournal.remove(uploadSource.getFile());
+                }
+            });
+    }
+
+    /**
+     * Gets the upload authorisation information of a file. If an upload journal is specified and
+     * it contains an interrupted upload of the same file, that upload is resumed with the chunk
+     * size it was started with. Otherwise a new upload is initialised in Bynder and recorded in
+     * the journal.
+     *
+     * @param uploadSource Source of the content to be uploaded.
+     * @param uploadQuery Upload query with the chunk size.
+     * @param uploadJournal Upload journal of the file, or null if the upload should not be
+     * resumable.
+     * @return {@link Observable} with the {@link UploadJournalEntry} of the upload.
+     */
+    private Observable<UploadJournalEntry> startUpload(final UploadSource uploadSource,
+        final UploadQuery uploadQuery, final UploadJournal uploadJournal) {
+        File file = uploadSource.getFile();
+        return Observable.defer(() -> {
+            if (uploadJournal != null) {
+                UploadJournalEntry uploadJournalEntry = uploadJournal.load(file);
+                if (uploadJournalEntry != null) {
+                    return Observable.just(uploadJournalEntry);
+                }
             }
+
+            int chunkSize = uploadQuery.isAdaptiveChunkSize() ? chunkSizeEstimator
+                .getChunkSize(uploadSource.getLength(), uploadQuery.getChunkSize(),
+                    uploadQuery.getChunkParallelism()) : uploadQuery.getChunkSize();
+            return getUploadInformation(new RequestUploadQuery(uploadSource.getName()))
+                .map(uploadRequestResponse -> {
+                    if (file == null) {
+                        return new UploadJournalEntry(chunkSize, uploadRequestResponse.body());
+                    }
+                    UploadJournalEntry uploadJournalEntry = new UploadJournalEntry(file,
+                        chunkSize, uploadRequestResponse.body());
+                    if (uploadJournal != null && file.exists()) {
+                        uploadJournal.save(file, uploadJournalEntry);
+                    }
+                    return uploadJournalEntry;
+                });
         });
     }
 
     /**
-     * Uploads the parts (chunks) to Amazon and registers them in Bynder.
+     * Uploads the parts (chunks) to Amazon and registers them in Bynder. Up to the specified
+     * number of chunks are processed at the same time, while the progress is always accounted in
+     * chunk order. Chunks already completed according to the journal entry are skipped.
+     *
+     * <p>Chunks are read from the source in chunk order when they start being processed, so
+     * sources read sequentially only hold the chunks being processed in memory.
      *
-     * @param file File to be uploaded.
+     * @param uploadSource Source of the content to be uploaded.
+     * @param uploadJournalEntry Upload authorisation information and completed chunks.
+     * @param chunkParallelism Maximum number of chunks being processed at the same time.
+     * @param chunkRetryPolicy Retry policy of the chunks failing with a transient error.
+     * @param uploadJournal Upload journal where completed chunks are recorded, or null.
+     * @param amazonS3Service Amazon S3 service used to upload parts (chunks).
      * @return {@link Observable} with the {@link UploadProgress} information.
      */
-    private Observable<UploadProgress> uploadParts(final File file,
-        final UploadRequest uploadRequest) {
-        return Observable.create(observableEmitter -> {
-            try {
+    private Observable<UploadProgress> uploadParts(final UploadSource uploadSource,
+        final UploadJournalEntry uploadJournalEntry, final int chunkParallelism,
+        final RetryPolicy chunkRetryPolicy, final UploadJournal uploadJournal,
+        final AmazonS3Service amazonS3Service) {
+        return Observable.defer(() -> {
+            UploadProgress uploadProgress = new UploadProgress(uploadSource.getLength());
+            UploadProcessData uploadProcessData = new UploadProcessData(uploadSource,
+                uploadJournalEntry.getUploadRequest(), uploadJournalEntry.getChunkSize());
+            Set<Integer> completedChunks = uploadJournalEntry.getCompletedChunks();
+            for (int chunkNumber : completedChunks) {
+                if (chunkNumber <= uploadProcessData.getNumberOfChunks()) {
+                    uploadProgress.addProgress(uploadProcessData.getChunkSize(chunkNumber));
+                }
+            }
 
-                FileInputStream fileInputStream = new FileInputStream(file);
-                UploadProgress uploadProgress = new UploadProgress(file.length());
-                UploadProcessData uploadProcessData = new UploadProcessData(file, fileInputStream,
-                    uploadRequest, MAX_CHUNK_SIZE);
-                uploadProcessData.incrementChunk();
-                processChunk(uploadProcessData).repeatUntil(() -> {
-                    boolean isProcessed = uploadProcessData.isCompleted();
-                    if (isProcessed) {
-                        observableEmitter.onComplete();
-                    } else {
-                        uploadProcessData.incrementChunk();
-                    }
-                    return isProcessed;
-                }).subscribe(chunkSize -> {
+            Observable<UploadProgress> uploadProgressObs = Observable
+                .range(1, uploadProcessData.getNumberOfChunks())
+                .filter(chunkNumber -> !completedChunks.contains(chunkNumber))
+                .concatMapEager(chunkNumber -> processChunk(uploadProcessData, chunkNumber,
+                    uploadProcessData.getChunk(chunkNumber), chunkRetryPolicy, amazonS3Service)
+                    .doOnNext(chunkSize -> {
+                        if (uploadJournal != null) {
+                            uploadJournal.addCompletedChunk(uploadSource.getFile(), chunkNumber);
+                        }
+                    })
+                    .subscribeOn(Schedulers.io()), chunkParallelism, 1)
+                .map(chunkSize -> {
                     uploadProgress.addProgress(chunkSize);
-                    observableEmitter.onNext(uploadProgress);
-                }, throwable -> observableEmitter.onError(throwable));
-            } catch (Exception e) {
-                observableEmitter.onError(e);
-            }
+                    return uploadProgress;
+                });
+
+            // report the resumed progress first, it may already complete the upload
+            return completedChunks.isEmpty() ? uploadProgressObs
+                : uploadProgressObs.startWith(uploadProgress);
         });
     }
 
     /**
      * Calls the {@link AmazonS3Service} to upload the chunk to Amazon and after registers the
-     * uploaded chunk in Bynder.
+     * uploaded chunk in Bynder. If either request fails with a transient error, the chunk is
+     * processed again after a backoff, sending the same content, without affecting the other
+     * chunks. Its progress is only reported once it succeeds, and its throughput is then recorded
+     * in the {@link ChunkSizeEstimator}.
      *
      * @param uploadProcessData Upload process data of the file being uploaded.
+     * @param chunkNumber Number of the chunk to be uploaded.
+     * @param chunk Content of the chunk, read from the upload source.
+     * @param chunkRetryPolicy Retry policy of the chunk.
+     * @param amazonS3Service Amazon S3 service used to upload parts (chunks).
      * @return {@link Observable} with Integer indicating the number of bytes that were uploaded
      * in the current chunk.
      */
-    private Observable<Integer> processChunk(final UploadProcessData uploadProcessData) {
-        return Observable.create(observableEmitter -> {
-            try {
-                byte[] chunk = uploadProcessData.getBuffer();
-                Observable<Response<Void>> uploadPartToAmazonObs = amazonS3Service
-                    .uploadPartToAmazon(uploadProcessData.getFile().getName(),
-                        uploadProcessData.getUploadRequest(), uploadProcessData.getChunkNumber(),
-                        chunk, uploadProcessData.getNumberOfChunks());
-
-                uploadPartToAmazonObs.subscribe(voidResponse -> {
-                    registerUploadedChunk(uploadProcessData, observableEmitter, chunk.length);
-                    observableEmitter.onNext(chunk.length);
-                }, throwable -> observableEmitter.onError(throwable));
-            } catch (Exception e) {
-                observableEmitter.onError(e);
-            }
+    private Observable<Integer> processChunk(final UploadProcessData uploadProcessData,
+        final int chunkNumber, final RequestBody chunk, final RetryPolicy chunkRetryPolicy,
+        final AmazonS3Service amazonS3Service) {
+        return Observable.defer(() -> {
+            // only the successful attempt is measured, not the failed ones and their backoff
+            long startNanos = System.nanoTime();
+            return amazonS3Service.uploadPartToAmazon(
+                uploadProcessData.getUploadSource().getName(),
+                uploadProcessData.getUploadRequest(), chunkNumber, chunk,
+                uploadProcessData.getNumberOfChunks())
+                .map(FileUploader::checkSuccessful)
+                .concatMap(voidResponse -> registerUploadedChunk(uploadProcessData, chunkNumber))
+                .map(voidResponse -> {
+                    checkSuccessful(voidResponse);
+                    int chunkSize = uploadProcessData.getChunkSize(chunkNumber);
+                    chunkSizeEstimator.recordChunk(chunkSize, System.nanoTime() - startNanos);
+                    return chunkSize;
+                });
+        }).retryWhen(errors -> {
+            AtomicInteger attempts = new AtomicInteger(1);
+            return errors.flatMap(throwable -> {
+                int attempt = attempts.getAndIncrement();
+                if (attempt >= chunkRetryPolicy.getMaxAttempts()
+                    || !isTransient(throwable, chunkRetryPolicy)) {
+                    return Observable.error(throwable);
+                }
+                return Observable.timer(chunkRetryPolicy.getBackoffMillis(attempt,
+                    ThreadLocalRandom.current().nextDouble()), TimeUnit.MILLISECONDS,
+                    Schedulers.io());
+            });
         });
     }
 
+    /**
+     * Checks that a request of a chunk was successful.
+     *
+     * @param response Response of the request.
+     * @return The response.
+     * @throws HttpException If the response is not successful.
+     */
+    private static Response<Void> checkSuccessful(final Response<Void> response) {
+        if (!response.isSuccessful()) {
+            throw new HttpException(response);
+        }
+        return response;
+    }
+
+    /**
+     * Checks if a chunk failed with an error worth retrying.
+     *
+     * @param throwable Error of the chunk.
+     * @param chunkRetryPolicy Retry policy of the chunk.
+     * @return True if the error is an {@link IOException} or a response with a retryable status
+     * code.
+     */
+    private static boolean isTransient(final Throwable throwable,
+        final RetryPolicy chunkRetryPolicy) {
+        return throwable instanceof IOException || (throwable instanceof HttpException
+            && chunkRetryPolicy.isRetryableStatusCode(((HttpException) throwable).code()));
+    }
+
     /**
      * Calls {@link FileUploader#registerChunk(RegisterChunkQuery)} to register the uploaded chunk
      * in Bynder.
      *
      * @param uploadProcessData Upload process data of the file being uploaded.
-     * @param observableEmitter Observable returned by {@link FileUploader#uploadFile(UploadQuery)}.
+     * @param chunkNumber Number of the chunk that was uploaded.
+     * @return {@link Observable} with the request {@link Response} information.
      */
-    private void registerUploadedChunk(final UploadProcessData uploadProcessData,
-        final ObservableEmitter<Integer> observableEmitter, final Integer chunkSize)
-        throws IllegalAccessException {
+    private Observable<Response<Void>> registerUploadedChunk(
+        final UploadProcessData uploadProcessData, final int chunkNumber) {
         String filename = String
             .format("%s/p%s", uploadProcessData.getUploadRequest().getS3Filename(),
-                Integer.toString(uploadProcessData.getChunkNumber()));
-        Observable<Response<Void>> registerChunkObs = registerChunk(
+                Integer.toString(chunkNumber));
+        return registerChunk(
             new RegisterChunkQuery(uploadProcessData.getUploadRequest().getS3File().getUploadId(),
-                uploadProcessData.getChunkNumber(),
-                uploadProcessData.getUploadRequest().getS3File().getTargetId(), filename));
-        registerChunkObs.subscribe(voidResponse -> {
-            observableEmitter.onNext(chunkSize);
-            observableEmitter.onComplete();
-        }, throwable -> observableEmitter.onError(throwable));
+                chunkNumber, uploadProcessData.getUploadRequest().getS3File().getTargetId(),
+                filename));
     }
 
     /**
-     * Method to check if file has finished converting within expected timeout.
+     * Method to check if file has finished converting within expected timeout. Polls are
+     * scheduled with timers, so no thread is blocked while waiting between them.
      *
      * @param importId Import id of the upload.
+     * @param pollingSettings Intervals between polls and max time to wait for the conversion.
      * @return {@link Observable} with a Boolean indicating whether the file finished converting
      * successfully.
      */
-    private Observable<Boolean> checkUploadFinished(final String importId) {
-        return Observable.create(observableEmitter -> {
-            try {
-                FileConverterStatus fileConverterStatus = new FileConverterStatus(
-                    MAX_POLLING_ITERATIONS);
-                getPollStatus(new PollStatusQuery(importId.split(","))).repeatUntil(() -> {
-                    if (fileConverterStatus.isDone()) {
-                        observableEmitter.onNext(fileConverterStatus.isSuccessful());
-                        observableEmitter.onComplete();
-                        return true;
-                    }
-                    if (!fileConverterStatus.nextAttempt()) {
-                        observableEmitter.onNext(false);
-                        observableEmitter.onComplete();
-                        return true;
-                    } else {
-                        Thread.sleep(POLLING_IDLE_TIME);
-                        return false;
+    private Observable<Boolean> checkUploadFinished(final String importId,
+        final PollingSettings pollingSettings) {
+        return pollUploadFinished(importId, pollingSettings, 0,
+            pollingSettings.getInitialIntervalMillis(), 0);
+    }
+
+    /**
+     * Polls the conversion status of an upload after the specified delay. The poll is batched
+     * with the polls of other uploads by the {@link PollStatusCoordinator}. If the conversion is
+     * not done yet, the next poll is scheduled with a longer interval until the max wait time is
+     * exceeded.
+     *
+     * @param importId Import id of the upload.
+     * @param pollingSettings Intervals between polls and max time to wait for the conversion.
+     * @param delayMillis Delay in milliseconds before this poll.
+     * @param nextIntervalMillis Interval in milliseconds before the next poll.
+     * @param waitedMillis Time in milliseconds already waited for the conversion.
+     * @return {@link Observable} with a Boolean indicating whether the file finished converting
+     * successfully.
+     */
+    private Observable<Boolean> pollUploadFinished(final String importId,
+        final PollingSettings pollingSettings, final long delayMillis,
+        final long nextIntervalMillis, final long waitedMillis) {
+        return pollStatusCoordinator.getPollStatus(importId)
+            .delaySubscription(delayMillis, TimeUnit.MILLISECONDS)
+            .concatMap(pollStatusResponse -> {
+                PollStatus pollStatus = pollStatusResponse.body();
+                if (pollStatus != null) {
+                    if (contains(pollStatus.getItemsDone(), importId)) {
+                        return Observable.just(true);
                     }
-                }).subscribe(pollStatusResponse -> {
-                    PollStatus pollStatus = pollStatusResponse.body();
-                    if (pollStatus != null) {
-                        if (pollStatus.getItemsDone().contains(importId)) {
-                            fileConverterStatus.setDone(true);
-                        }
-                        if (pollStatus.getItemsFailed().contains(importId)) {
-                            fileConverterStatus.setDone(false);
-                        }
+                    if (contains(pollStatus.getItemsFailed(), importId)
+                        || contains(pollStatus.getItemsRejected(), importId)) {
+                        return Observable.just(false);
                     }
-                }, throwable -> observableEmitter.onError(throwable));
-            } catch (Exception e) {
-                observableEmitter.onError(e);
-            }
-        });
+                }
+
+                long totalWaitedMillis = waitedMillis + nextIntervalMillis;
+                if (totalWaitedMillis > pollingSettings.getMaxWaitMillis()) {
+                    return Observable.just(false);
+                }
+                return pollUploadFinished(importId, pollingSettings, nextIntervalMillis,
+                    pollingSettings.getNextIntervalMillis(nextIntervalMillis), totalWaitedMillis);
+            });
+    }
+
+    /**
+     * Checks if an import id is in one of the sets of a poll status, which are null when missing
+     * from the response.
+     *
+     * @param importIds Import ids returned in the poll status.
+     * @param importId Import id of the upload.
+     * @return True if the set contains the import id.
+     */
+    private static boolean contains(final Set<String> importIds, final String importId) {
+        return importIds != null && importIds.contains(importId);
     }
 
     /**
@@ -302,19 +505,19 @@ public class FileUploader {
      * Bynder.
      *
      * @param uploadQuery Upload query with the information to upload the file.
-     * @param file File uploaded.
+     * @param name Name of the uploaded file.
      * @param importId Import id of the upload.
      * @return {@link Observable} with the {@link SaveMediaResponse} information.
      */
     private Observable<SaveMediaResponse> saveUploadedMedia(final UploadQuery uploadQuery,
-        final File file, final String importId) throws IllegalAccessException {
-        return Observable.create(emitter -> {
+        final String name, final String importId) {
+        return Observable.defer(() -> {
             Observable<Response<SaveMediaResponse>> saveMediaObs;
             if (uploadQuery.getMediaId() == null) {
                 saveMediaObs = saveMedia(
                     new SaveMediaQuery(importId)
                         .setBrandId(uploadQuery.getBrandId())
-                        .setName(file.getName())
+                        .setName(name)
                         .setAudit(uploadQuery.isAudit())
                         .setMetaproperties(uploadQuery.getMetaproperties()));
             } else {
@@ -324,11 +527,21 @@ public class FileUploader {
                         .setAudit(uploadQuery.isAudit())
                         .setMetaproperties(uploadQuery.getMetaproperties()));
             }
-            saveMediaObs.subscribe(saveMediaResponse -> emitter.onNext(saveMediaResponse.body()),
-                throwable -> emitter.onError(throwable), () -> emitter.onComplete());
+            return saveMediaObs.map(Response::body);
         });
     }
 
+    /**
+     * Creates the {@link AmazonS3Service} to upload parts (chunks) to the specified bucket, reusing
+     * the cached Amazon S3 client of the bucket.
+     *
+     * @param bucket AWS bucket URL returned by {@link BynderApi#getClosestS3Endpoint()}.
+     * @return Amazon S3 service used to upload parts (chunks).
+     */
+    private AmazonS3Service createAmazonS3Service(final String bucket) {
+        return AmazonS3Service.Builder.create(amazonS3ApiCache.get(bucket));
+    }
+
     /**
      * Check {@link BynderApi#getClosestS3Endpoint()} for more information.
      */
@@ -362,14 +575,6 @@ public class FileUploader {
         return bynderApi.finaliseUpload(params);
     }
 
-    /**
-     * Check {@link BynderApi#getPollStatus(Map)} for more information.
-     */
-    private Observable<Response<PollStatus>> getPollStatus(final PollStatusQuery pollStatusQuery) {
-        Map<String, String> params = queryDecoder.decode(pollStatusQuery);
-        return bynderApi.getPollStatus(params);
-    }
-
     /**
      * Check {@link BynderApi#saveMedia(Map)} for more information.
      */
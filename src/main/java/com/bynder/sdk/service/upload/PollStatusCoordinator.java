@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ */
+package com.bynder.sdk.service.upload;
+
+import com.bynder.sdk.api.BynderApi;
+import com.bynder.sdk.model.upload.PollStatus;
+import com.bynder.sdk.query.decoder.QueryDecoder;
+import com.bynder.sdk.query.upload.PollStatusQuery;
+import io.reactivex.Observable;
+import io.reactivex.ObservableEmitter;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import retrofit2.Response;
+
+/**
+ * Coordinates the conversion status polls of concurrent uploads. The import ids of all the polls
+ * requested within a batch window are sent to Bynder in a single
+ * {@link BynderApi#getPollStatus(Map)} request, whose response is then handed to every waiting
+ * upload. This way the number of poll requests does not grow with the number of uploads waiting
+ * for their files to be converted. As the import ids are sent in the query string, a batch is
+ * split into several requests of up to {@link PollStatusCoordinator#MAX_BATCH_SIZE} import ids.
+ */
+public class PollStatusCoordinator {
+
+    /**
+     * Default time in milliseconds during which poll requests are collected into one batch.
+     */
+    public static final long DEFAULT_BATCH_WINDOW_MILLIS = 100;
+    /**
+     * Max number of import ids sent in a single poll request.
+     */
+    public static final int MAX_BATCH_SIZE = 50;
+
+    /**
+     * Instance of {@link BynderApi} which handles the HTTP communication.
+     */
+    private final BynderApi bynderApi;
+    /**
+     * Instance of {@link QueryDecoder} to decode query objects into API parameters.
+     */
+    private final QueryDecoder queryDecoder;
+    /**
+     * Time in milliseconds during which poll requests are collected into one batch.
+     */
+    private final long batchWindowMillis;
+    /**
+     * Scheduler on which the batched poll requests are sent.
+     */
+    private final Scheduler scheduler;
+    /**
+     * Uploads waiting for the next batched poll, by import id.
+     */
+    private Map<String, List<ObservableEmitter<Response<PollStatus>>>> pendingPolls;
+    /**
+     * Whether the pending polls are already scheduled to be sent.
+     */
+    private boolean sendScheduled;
+
+    /**
+     * Creates a new instance of the class with the default batch window.
+     *
+     * @param bynderApi Instance to handle the HTTP communication with the Bynder API.
+     * @param queryDecoder Query decoder.
+     */
+    public PollStatusCoordinator(final BynderApi bynderApi, final QueryDecoder queryDecoder) {
+        this(bynderApi, queryDecoder, DEFAULT_BATCH_WINDOW_MILLIS, Schedulers.io());
+    }
+
+    /**
+     * Creates a new instance of the class.
+     *
+     * @param bynderApi Instance to handle the HTTP communication with the Bynder API.
+     * @param queryDecoder Query decoder.
+     * @param batchWindowMillis Time in milliseconds during which poll requests are collected into
+     * one batch.
+     * @param scheduler Scheduler on which the batched poll requests are sent.
+     */
+    public PollStatusCoordinator(final BynderApi bynderApi, final QueryDecoder queryDecoder,
+        final long batchWindowMillis, final Scheduler scheduler) {
+        if (batchWindowMillis < 0) {
+            throw new IllegalArgumentException(
+                String.format("Invalid batch window: %d ms", batchWindowMillis));
+        }
+        this.bynderApi = bynderApi;
+        this.queryDecoder = queryDecoder;
+        this.batchWindowMillis = batchWindowMillis;
+        this.scheduler = scheduler;
+        this.pendingPolls = new LinkedHashMap<>();
+    }
+
+    /**
+     * Gets the conversion status of an upload. The poll is sent together with the polls of the
+     * other uploads requested within the same batch window.
+     *
+     * @param importId Import id of the upload.
+     * @return {@link Observable} with the response of the batched poll request.
+     */
+    public Observable<Response<PollStatus>> getPollStatus(final String importId) {
+        return Observable.create(emitter -> {
+            boolean scheduleSend;
+            synchronized (this) {
+                scheduleSend = !sendScheduled;
+                sendScheduled = true;
+                List<ObservableEmitter<Response<PollStatus>>> emitters = pendingPolls.get(importId);
+                if (emitters == null) {
+                    emitters = new ArrayList<>();
+                    pendingPolls.put(importId, emitters);
+                }
+                emitters.add(emitter);
+            }
+            emitter.setCancellable(() -> removePendingPoll(importId, emitter));
+            if (scheduleSend) {
+                scheduler.scheduleDirect(this::sendPendingPolls, batchWindowMillis,
+                    TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+
+    /**
+     * Removes the poll of an upload no longer waiting for it, if it has not been sent yet.
+     *
+     * @param importId Import id of the upload.
+     * @param emitter Emitter of the poll.
+     */
+    private synchronized void removePendingPoll(final String importId,
+        final ObservableEmitter<Response<PollStatus>> emitter) {
+        List<ObservableEmitter<Response<PollStatus>>> emitters = pendingPolls.get(importId);
+        if (emitters != null && emitters.remove(emitter) && emitters.isEmpty()) {
+            pendingPolls.remove(importId);
+        }
+    }
+
+    /**
+     * Sends the import ids of all the pending polls, in as few poll requests as possible, and
+     * hands the response of each request to every upload waiting for it.
+     */
+    private void sendPendingPolls() {
+        Map<String, List<ObservableEmitter<Response<PollStatus>>>> polls;
+        synchronized (this) {
+            polls = pendingPolls;
+            pendingPolls = new LinkedHashMap<>();
+            sendScheduled = false;
+        }
+
+        Set<String> importIds = new LinkedHashSet<>();
+        List<ObservableEmitter<Response<PollStatus>>> emitters = new ArrayList<>();
+        for (Map.Entry<String, List<ObservableEmitter<Response<PollStatus>>>> poll : polls
+            .entrySet()) {
+            List<String> pollImportIds = Arrays.asList(poll.getKey().split(","));
+            if (!importIds.isEmpty() && importIds.size() + pollImportIds.size() > MAX_BATCH_SIZE) {
+                sendPolls(importIds, emitters);
+                importIds = new LinkedHashSet<>();
+                emitters = new ArrayList<>();
+            }
+            importIds.addAll(pollImportIds);
+            emitters.addAll(poll.getValue());
+        }
+        if (!emitters.isEmpty()) {
+            sendPolls(importIds, emitters);
+        }
+    }
+
+    /**
+     * Sends a single poll request and hands its response to every upload waiting for it.
+     *
+     * @param importIds Import ids of the uploads.
+     * @param emitters Emitters of the polls of the uploads.
+     */
+    private void sendPolls(final Set<String> importIds,
+        final List<ObservableEmitter<Response<PollStatus>>> emitters) {
+        try {
+            Map<String, String> params = queryDecoder
+                .decode(new PollStatusQuery(importIds.toArray(new String[importIds.size()])));
+            bynderApi.getPollStatus(params).subscribe(pollStatusResponse -> {
+                for (ObservableEmitter<Response<PollStatus>> emitter : emitters) {
+                    emitter.onNext(pollStatusResponse);
+                    emitter.onComplete();
+                }
+            }, throwable -> failPolls(emitters, throwable));
+        } catch (RuntimeException e) {
+            // the uploads would otherwise wait forever for a response
+            failPolls(emitters, e);
+        }
+    }
+
+    private static void failPolls(final List<ObservableEmitter<Response<PollStatus>>> emitters,
+        final Throwable throwable) {
+        for (ObservableEmitter<Response<PollStatus>> emitter : emitters) {
+            emitter.tryOnError(throwable);
+        }
+    }
+}
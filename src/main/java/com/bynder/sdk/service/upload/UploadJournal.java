@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ */
+package com.bynder.sdk.service.upload;
+
+import com.bynder.sdk.model.upload.UploadJournalEntry;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * On-disk journal of the uploads in progress. For every file being uploaded it keeps the upload
+ * authorisation information and the chunks already uploaded, so an upload interrupted by a
+ * failure or a restart of the JVM can be resumed from the first missing chunk.
+ *
+ * <p>Each file has two entries in the journal directory: a JSON file with the
+ * {@link UploadJournalEntry} written when the upload starts and a file to which the number of
+ * every completed chunk is appended.
+ */
+public class UploadJournal {
+
+    /**
+     * Extension of the files with the upload information.
+     */
+    private static final String ENTRY_EXTENSION = ".json";
+    /**
+     * Extension of the files with the completed chunk numbers.
+     */
+    private static final String CHUNKS_EXTENSION = ".chunks";
+
+    /**
+     * Directory where the journal files are stored.
+     */
+    private final Path directory;
+    /**
+     * Instance used to serialise the journal entries.
+     */
+    private final Gson gson;
+
+    /**
+     * Initialises a new instance of the class.
+     *
+     * @param directory Directory where the journal files are stored. It is created if it does not
+     * exist.
+     */
+    public UploadJournal(final File directory) {
+        this.directory = directory.toPath();
+        this.gson = new Gson();
+    }
+
+    /**
+     * Loads the journal entry of a file, whatever the chunk size it was created with. Entries
+     * created for a different version of the file are discarded.
+     *
+     * @param file File being uploaded.
+     * @return Journal entry of the file, or null if there is no upload of the file to resume.
+     * @throws IOException If the journal could not be read.
+     */
+    public UploadJournalEntry load(final File file) throws IOException {
+        return load(file, uploadJournalEntry -> uploadJournalEntry.matches(file));
+    }
+
+    /**
+     * Loads the journal entry of a file, discarding it if it cannot be resumed.
+     *
+     * @param file File being uploaded.
+     * @param resumable Checks if the upload of an entry can be resumed.
+     * @return Journal entry of the file, or null if there is no upload of the file to resume.
+     * @throws IOException If the journal could not be read.
+     */
+    private UploadJournalEntry load(final File file,
+        final Predicate<UploadJournalEntry> resumable) throws IOException {
+        Path entryPath = getPath(file, ENTRY_EXTENSION);
+        if (!Files.exists(entryPath)) {
+            return null;
+        }
+
+        UploadJournalEntry uploadJournalEntry;
+        try {
+            uploadJournalEntry = gson.fromJson(
+                new String(Files.readAllBytes(entryPath), StandardCharsets.UTF_8),
+                UploadJournalEntry.class);
+        } catch (JsonParseException e) {
+            uploadJournalEntry = null;
+        }
+        if (uploadJournalEntry == null || !resumable.test(uploadJournalEntry)) {
+            remove(file);
+            return null;
+        }
+
+        Path chunksPath = getPath(file, CHUNKS_EXTENSION);
+        if (Files.exists(chunksPath)) {
+            String chunks = new String(Files.readAllBytes(chunksPath), StandardCharsets.UTF_8);
+            // only newline terminated lines are complete, a partially written last line is
+            // ignored and that chunk is uploaded again
+            String[] lines = chunks.substring(0, chunks.lastIndexOf('\n') + 1).split("\\R");
+            for (String line : lines) {
+                if (line.matches("\\d+")) {
+                    uploadJournalEntry.addCompletedChunk(Integer.parseInt(line));
+                }
+            }
+        }
+
+        return uploadJournalEntry;
+    }
+
+    /**
+     * Stores the journal entry of a file whose upload just started.
+     *
+     * @param file File being uploaded.
+     * @param uploadJournalEntry Journal entry of the file.
+     * @throws IOException If the journal could not be written.
+     */
+    public void save(final File file, final UploadJournalEntry uploadJournalEntry)
+        throws IOException {
+        Files.createDirectories(directory);
+        Files.deleteIfExists(getPath(file, CHUNKS_EXTENSION));
+
+        Path entryPath = getPath(file, ENTRY_EXTENSION);
+        Path temporaryPath = Files.createTempFile(directory, entryPath.getFileName().toString(),
+            null);
+        Files.write(temporaryPath,
+            gson.toJson(uploadJournalEntry).getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.move(temporaryPath, entryPath, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryPath, entryPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Records a chunk of a file as uploaded and registered in Bynder.
+     *
+     * @param file File being uploaded.
+     * @param chunkNumber Number of the completed chunk.
+     * @throws IOException If the journal could not be written.
+     */
+    public synchronized void addCompletedChunk(final File file, final int chunkNumber)
+        throws IOException {
+        Files.write(getPath(file, CHUNKS_EXTENSION),
+            String.format("%d%n", chunkNumber).getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Removes the journal entry of a file, once its upload has been finalised or cannot be
+     * resumed anymore.
+     *
+     * @param file File being uploaded.
+     * @throws IOException If the journal files could not be deleted.
+     */
+    public void remove(final File file) throws IOException {
+        Files.deleteIfExists(getPath(file, ENTRY_EXTENSION));
+        Files.deleteIfExists(getPath(file, CHUNKS_EXTENSION));
+    }
+
+    private Path getPath(final File file, final String extension) {
+        String key = UUID.nameUUIDFromBytes(
+            file.getAbsolutePath().getBytes(StandardCharsets.UTF_8)).toString();
+        return directory.resolve(key + extension);
+    }
+}
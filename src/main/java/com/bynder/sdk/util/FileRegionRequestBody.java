@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ */
+package com.bynder.sdk.util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+/**
+ * Request body that streams a region of a file straight from its {@link FileChannel} to the HTTP
+ * connection, without copying the region into an intermediate byte array first. The region is
+ * read positionally, so the same channel can back several request bodies at the same time and the
+ * body can be written more than once if the request is retried.
+ */
+public class FileRegionRequestBody extends RequestBody {
+
+    /**
+     * Content type of the body.
+     */
+    private final MediaType contentType;
+    /**
+     * Channel of the file containing the region.
+     */
+    private final FileChannel fileChannel;
+    /**
+     * Position in the file where the region starts.
+     */
+    private final long offset;
+    /**
+     * Length in bytes of the region.
+     */
+    private final long length;
+
+    /**
+     * Initialises a new instance of the class.
+     *
+     * @param contentType Content type of the body.
+     * @param fileChannel Channel of the file containing the region.
+     * @param offset Position in the file where the region starts.
+     * @param length Length in bytes of the region.
+     */
+    public FileRegionRequestBody(final MediaType contentType, final FileChannel fileChannel,
+        final long offset, final long length) {
+        this.contentType = contentType;
+        this.fileChannel = fileChannel;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Check {@link RequestBody#contentType()} for more information.
+     */
+    @Override
+    public MediaType contentType() {
+        return contentType;
+    }
+
+    /**
+     * Check {@link RequestBody#contentLength()} for more information.
+     */
+    @Override
+    public long contentLength() {
+        return length;
+    }
+
+    /**
+     * Transfers the file region to the sink. {@link FileChannel#transferTo(long, long,
+     * java.nio.channels.WritableByteChannel)} does not modify the position of the channel.
+     */
+    @Override
+    public void writeTo(final BufferedSink sink) throws IOException {
+        long transferred = 0;
+        while (transferred < length) {
+            long count = fileChannel.transferTo(offset + transferred, length - transferred, sink);
+            if (count <= 0) {
+                throw new EOFException(String
+                    .format("Unexpected end of file at position %d", offset + transferred));
+            }
+            transferred += count;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ */
+package com.bynder.sdk.util;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import io.reactivex.Flowable;
+import okhttp3.ResponseBody;
+
+/**
+ * Reads the elements of a JSON array response body one by one, as they are requested by the
+ * subscriber. Only the element being deserialised is kept in memory, instead of the whole array.
+ */
+public final class JsonArrayFlowable {
+
+    /**
+     * Prevents the instantiation of the class.
+     */
+    private JsonArrayFlowable() {
+    }
+
+    /**
+     * Creates a {@link Flowable} with the elements of the JSON array of a response body. The body
+     * is closed when the array has been read, when an error occurs or when the subscription is
+     * cancelled.
+     *
+     * @param responseBody Response body with a JSON array.
+     * @param gson Instance used to deserialise the elements.
+     * @param elementClass Class of the array elements.
+     * @param <T> Type of the array elements.
+     * @return {@link Flowable} with the elements of the array, in order.
+     */
+    public static <T> Flowable<T> create(final ResponseBody responseBody, final Gson gson,
+        final Class<T> elementClass) {
+        TypeAdapter<T> typeAdapter = gson.getAdapter(elementClass);
+        return Flowable.using(() -> responseBody,
+            body -> Flowable.<T, JsonReader>generate(() -> {
+                JsonReader jsonReader = gson.newJsonReader(body.charStream());
+                jsonReader.beginArray();
+                return jsonReader;
+            }, (jsonReader, emitter) -> {
+                if (jsonReader.hasNext()) {
+                    emitter.onNext(typeAdapter.read(jsonReader));
+                } else {
+                    jsonReader.endArray();
+                    emitter.onComplete();
+                }
+                return jsonReader;
+            }),
+            ResponseBody::close);
+    }
+}
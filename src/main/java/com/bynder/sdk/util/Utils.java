@@ -9,8 +9,8 @@ package com.bynder.sdk.util;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.Calendar;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Utils class that provides methods to help handling API requests and responses.
@@ -45,9 +45,6 @@ public final class Utils {
      * @return True if the date will expire in the number of seconds passed as parameter.
      */
     public static boolean isDateExpiring(final Date date, final int seconds) {
-        Calendar expirationDate = Calendar.getInstance();
-        expirationDate.setTime(date);
-        expirationDate.add(Calendar.SECOND, -seconds);
-        return expirationDate.before(Calendar.getInstance());
+        return date.getTime() - TimeUnit.SECONDS.toMillis(seconds) < System.currentTimeMillis();
     }
 }
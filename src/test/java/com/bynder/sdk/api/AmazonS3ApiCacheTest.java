@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ *
+ * JUnit framework component copyright (c) 2002-2017 JUnit. All Rights Reserved. Licensed under
+ * Eclipse Public License - v 1.0. You may obtain a copy of the License at
+ * https://www.eclipse.org/legal/epl-v10.html.
+ */
+package com.bynder.sdk.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.Authenticator;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.RequestBody;
+import okhttp3.logging.HttpLoggingInterceptor;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.Test;
+
+/**
+ * Tests the {@link AmazonS3ApiCache} class methods.
+ */
+public class AmazonS3ApiCacheTest {
+
+    public static final String BUCKET = "https://bucket.s3.amazonaws.com/";
+    public static final String OTHER_BUCKET = "https://other-bucket.s3.amazonaws.com/";
+
+    @Test
+    public void getReusesClientPerBucket() {
+        AmazonS3ApiCache amazonS3ApiCache = new AmazonS3ApiCache(new OkHttpClient());
+
+        AmazonS3Api amazonS3Api = amazonS3ApiCache.get(BUCKET);
+
+        assertSame(amazonS3Api, amazonS3ApiCache.get(BUCKET));
+        assertNotSame(amazonS3Api, amazonS3ApiCache.get(OTHER_BUCKET));
+    }
+
+    @Test
+    public void getStripsBynderInterceptorsAndAuthenticator() throws Exception {
+        AtomicInteger authentications = new AtomicInteger();
+        OkHttpClient httpClient = new OkHttpClient.Builder()
+            .addInterceptor(chain -> chain.proceed(chain.request().newBuilder()
+                .header("Authorization", "Bearer accessToken").build()))
+            .addInterceptor(new HttpLoggingInterceptor()
+                .setLevel(HttpLoggingInterceptor.Level.BODY))
+            .addNetworkInterceptor(chain -> chain.proceed(chain.request().newBuilder()
+                .header("X-Network-Interceptor", "true").build()))
+            .authenticator((route, response) -> {
+                authentications.incrementAndGet();
+                return null;
+            })
+            .build();
+        AmazonS3ApiCache amazonS3ApiCache = new AmazonS3ApiCache(httpClient);
+
+        OkHttpClient amazonS3HttpClient = amazonS3ApiCache.getHttpClient();
+        assertTrue(amazonS3HttpClient.interceptors().isEmpty());
+        assertTrue(amazonS3HttpClient.networkInterceptors().isEmpty());
+        assertSame(Authenticator.NONE, amazonS3HttpClient.authenticator());
+        assertSame(httpClient.connectionPool(), amazonS3HttpClient.connectionPool());
+        assertSame(httpClient.dispatcher(), amazonS3HttpClient.dispatcher());
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setResponseCode(401));
+
+            assertEquals(401, amazonS3ApiCache.get(server.url("/").toString())
+                .uploadPartToAmazon(Collections.singletonMap("file",
+                    RequestBody.create(null, "content"))).blockingFirst().code());
+
+            RecordedRequest request = server.takeRequest();
+            assertNull(request.getHeader("Authorization"));
+            assertNull(request.getHeader("X-Network-Interceptor"));
+        }
+        assertEquals(0, authentications.get());
+    }
+
+    @Test
+    public void getReplacesHttp2PriorKnowledge() {
+        AmazonS3ApiCache amazonS3ApiCache = new AmazonS3ApiCache(new OkHttpClient.Builder()
+            .protocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE)).build());
+
+        assertEquals(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1),
+            amazonS3ApiCache.getHttpClient().protocols());
+    }
+
+    @Test
+    public void getKeepsOtherProtocols() {
+        AmazonS3ApiCache amazonS3ApiCache = new AmazonS3ApiCache(new OkHttpClient.Builder()
+            .protocols(Collections.singletonList(Protocol.HTTP_1_1)).build());
+
+        assertEquals(Collections.singletonList(Protocol.HTTP_1_1),
+            amazonS3ApiCache.getHttpClient().protocols());
+    }
+}
@@ -10,13 +10,33 @@
  */
 package com.bynder.sdk.api;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.bynder.sdk.configuration.Configuration;
 import com.bynder.sdk.configuration.HttpConnectionSettings;
+import com.bynder.sdk.service.oauth.TokenManager;
 import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.logging.HttpLoggingInterceptor;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -27,9 +47,15 @@ import org.mockito.MockitoAnnotations;
 public class ApiFactoryTest {
 
     public static String BASE_URL = "https://example.bynder.com";
+    public static String ACCESS_TOKEN = "accessToken";
+    public static String REFRESHED_ACCESS_TOKEN = "refreshedAccessToken";
 
     @Mock
     private Configuration configuration;
+    @Mock
+    private TokenManager tokenManager;
+    @Mock
+    private Interceptor.Chain chain;
 
     @Before
     public void setUp() throws Exception {
@@ -45,6 +71,67 @@ public class ApiFactoryTest {
         assertNotNull(bynderApi);
     }
 
+    @Test
+    public void createOkHttpClientWithTokenManager() throws Exception {
+        when(tokenManager.getAccessToken()).thenReturn(ACCESS_TOKEN);
+        Request request = new Request.Builder().url(BASE_URL).build();
+        when(chain.request()).thenReturn(request);
+
+        OkHttpClient httpClient = ApiFactory.createOkHttpClient(configuration, tokenManager);
+        httpClient.interceptors().get(0).intercept(chain);
+
+        ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(chain).proceed(requestCaptor.capture());
+        assertEquals("Bearer " + ACCESS_TOKEN, requestCaptor.getValue().header("Authorization"));
+        verify(tokenManager, times(1)).getAccessToken();
+    }
+
+    @Test
+    public void createOkHttpClientRetriesUnauthorizedRequestOnce() throws Exception {
+        when(tokenManager.refreshRejectedAccessToken(ACCESS_TOKEN))
+            .thenReturn(REFRESHED_ACCESS_TOKEN);
+        Request request = new Request.Builder().url(BASE_URL)
+            .header("Authorization", "Bearer " + ACCESS_TOKEN).build();
+
+        OkHttpClient httpClient = ApiFactory.createOkHttpClient(configuration, tokenManager);
+        Response unauthorizedResponse = createUnauthorizedResponse(request).build();
+        Request retriedRequest = httpClient.authenticator().authenticate(null,
+            unauthorizedResponse);
+
+        assertEquals("Bearer " + REFRESHED_ACCESS_TOKEN, retriedRequest.header("Authorization"));
+        assertNull(httpClient.authenticator().authenticate(null,
+            createUnauthorizedResponse(retriedRequest).priorResponse(unauthorizedResponse)
+                .build()));
+        verify(tokenManager, times(1)).refreshRejectedAccessToken(ACCESS_TOKEN);
+    }
+
+    @Test
+    public void createOkHttpClientWithConnectionSettings() {
+        Mockito.when(configuration.getHttpConnectionSettings()).thenReturn(
+            new HttpConnectionSettings().setConnectionPool(10, 60).setDispatcherLimits(128, 32)
+                .setProtocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)));
+
+        OkHttpClient httpClient = ApiFactory.createOkHttpClient(configuration, tokenManager);
+
+        assertEquals(128, httpClient.dispatcher().getMaxRequests());
+        assertEquals(32, httpClient.dispatcher().getMaxRequestsPerHost());
+        assertEquals(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1), httpClient.protocols());
+    }
+
+    @Test
+    public void createOkHttpClientSharesRootConnectionPool() {
+        when(tokenManager.getAccessToken()).thenReturn(ACCESS_TOKEN);
+        OkHttpClient rootHttpClient = ApiFactory
+            .createRootOkHttpClient(new HttpConnectionSettings());
+
+        OkHttpClient httpClient = ApiFactory
+            .createOkHttpClient(rootHttpClient, configuration, tokenManager);
+
+        assertSame(rootHttpClient.connectionPool(), httpClient.connectionPool());
+        assertSame(rootHttpClient.dispatcher(), httpClient.dispatcher());
+        assertEquals(rootHttpClient.interceptors().size() + 1, httpClient.interceptors().size());
+    }
+
     @Test
     public void createAmazonS3Client() {
         AmazonS3Api amazonS3Api = ApiFactory.createAmazonS3Client(BASE_URL);
@@ -56,4 +143,35 @@ public class ApiFactoryTest {
         OAuthApi oAuthApi = ApiFactory.createOAuthClient(BASE_URL);
         assertNotNull(oAuthApi);
     }
+
+    @Test
+    public void createOAuthClientWithoutLoggingAndCustomInterceptors() throws Exception {
+        AtomicInteger interceptedRequests = new AtomicInteger();
+        Interceptor customInterceptor = chain -> {
+            interceptedRequests.incrementAndGet();
+            return chain.proceed(chain.request());
+        };
+        OkHttpClient rootHttpClient = ApiFactory.createRootOkHttpClient(
+            new HttpConnectionSettings(null, null, customInterceptor, 10, 10, true, true));
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody("{\"access_token\":\"" + ACCESS_TOKEN
+                + "\",\"expires_in\":3600}"));
+            OAuthApi oAuthApi = ApiFactory
+                .createOAuthClient(server.url("/").toString(), rootHttpClient);
+
+            oAuthApi.getAccessToken(Collections.singletonMap("client_secret", "secret"))
+                .blockingFirst();
+
+            assertEquals("client_secret=secret", server.takeRequest().getBody().readUtf8());
+        }
+        assertEquals(0, interceptedRequests.get());
+        assertFalse(ApiFactory.createOAuthHttpClient(rootHttpClient).interceptors().stream()
+            .anyMatch(interceptor -> interceptor instanceof HttpLoggingInterceptor));
+    }
+
+    private static Response.Builder createUnauthorizedResponse(final Request request) {
+        return new Response.Builder().request(request).protocol(Protocol.HTTP_1_1).code(401)
+            .message("Unauthorized");
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ *
+ * JUnit framework component copyright (c) 2002-2017 JUnit. All Rights Reserved. Licensed under
+ * Eclipse Public License - v 1.0. You may obtain a copy of the License at
+ * https://www.eclipse.org/legal/epl-v10.html.
+ */
+package com.bynder.sdk.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.Map;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.GzipSource;
+import okio.Okio;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import retrofit2.Invocation;
+
+/**
+ * Tests the {@link CompressionMetrics} class methods.
+ */
+public class CompressionMetricsTest {
+
+    public static final String EXPECTED_ENDPOINT = "getMediaList";
+    public static final String EXPECTED_BODY = "[" + String.join(",",
+        Collections.nCopies(100, "{\"id\":\"mediaId\",\"name\":\"mediaName\"}")) + "]";
+    public static final MediaType JSON = MediaType.get("application/json");
+
+    @Mock
+    private Interceptor.Chain networkChain;
+    @Mock
+    private Interceptor.Chain applicationChain;
+    private Request request;
+    private CompressionMetrics compressionMetrics;
+
+    @Before
+    public void setUp() throws Exception {
+        MockitoAnnotations.initMocks(this);
+        request = new Request.Builder().url("https://example.bynder.com/api/v4/media/")
+            .tag(Invocation.class, Invocation.of(
+                BynderApi.class.getMethod(EXPECTED_ENDPOINT, Map.class),
+                Collections.singletonList(Collections.emptyMap())))
+            .build();
+        when(networkChain.request()).thenReturn(request);
+        when(applicationChain.request()).thenReturn(request);
+        compressionMetrics = new CompressionMetrics();
+    }
+
+    @Test
+    public void countCompressedAndDecompressedBytes() throws Exception {
+        Buffer compressedBody = new Buffer();
+        try (BufferedSink gzipSink = Okio.buffer(new GzipSink(compressedBody))) {
+            gzipSink.writeUtf8(EXPECTED_BODY);
+        }
+        long expectedCompressedBytes = compressedBody.size();
+        when(networkChain.proceed(any())).thenReturn(
+            createResponse(ResponseBody.create(JSON, expectedCompressedBytes, compressedBody)));
+
+        // the HTTP client decompresses the body between both interceptors
+        Response networkResponse = compressionMetrics.createNetworkInterceptor()
+            .intercept(networkChain);
+        when(applicationChain.proceed(any())).thenReturn(createResponse(ResponseBody.create(JSON,
+            -1, Okio.buffer(new GzipSource(networkResponse.body().source())))));
+        Response response = compressionMetrics.createApplicationInterceptor()
+            .intercept(applicationChain);
+
+        assertEquals(EXPECTED_BODY, response.body().string());
+        assertEquals(Collections.singleton(EXPECTED_ENDPOINT), compressionMetrics.getEndpoints());
+        assertEquals(expectedCompressedBytes,
+            compressionMetrics.getCompressedBytes(EXPECTED_ENDPOINT));
+        assertEquals(EXPECTED_BODY.length(),
+            compressionMetrics.getDecompressedBytes(EXPECTED_ENDPOINT));
+    }
+
+    @Test
+    public void countBytesWithoutResponses() {
+        assertEquals(0, compressionMetrics.getCompressedBytes(EXPECTED_ENDPOINT));
+        assertEquals(0, compressionMetrics.getDecompressedBytes(EXPECTED_ENDPOINT));
+    }
+
+    private Response createResponse(final ResponseBody body) {
+        return new Response.Builder().request(request).protocol(Protocol.HTTP_1_1).code(200)
+            .message("OK").body(body).build();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ */
+package com.bynder.sdk.api;
+
+import com.bynder.sdk.configuration.Configuration;
+import com.bynder.sdk.configuration.OAuthSettings;
+import com.bynder.sdk.model.oauth.Token;
+import com.bynder.sdk.service.oauth.TokenManager;
+import com.bynder.sdk.util.Utils;
+import io.reactivex.Observable;
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.Interceptor;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the overhead added to every request by the OAuth interceptor created by
+ * {@link ApiFactory}, with a valid access token. Run it with the main method from the test
+ * classpath, adding {@code -prof gc} to the JMH options to see the allocations per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OAuthInterceptorBenchmark {
+
+    public static final String BASE_URL = "https://example.bynder.com";
+
+    private Token token;
+    private TokenManager tokenManager;
+    private Interceptor oauthInterceptor;
+    private ProceedingChain chain;
+
+    @Setup
+    public void setUp() throws Exception {
+        token = new Token("accessToken", 3600, "bearer", "offline", "refreshToken")
+            .withAccessTokenExpiration();
+
+        OAuthSettings oauthSettings = new OAuthSettings();
+        oauthSettings.setToken(token);
+        Configuration configuration = new Configuration.Builder(new URL(BASE_URL))
+            .setOAuthSettings(oauthSettings).build();
+
+        tokenManager = new TokenManager(oauthSettings,
+            () -> Observable.error(new IllegalStateException("The token should not expire")));
+        oauthInterceptor = ApiFactory.createOkHttpClient(configuration, tokenManager)
+            .interceptors().get(0);
+        chain = new ProceedingChain(new Request.Builder().url(BASE_URL).build());
+    }
+
+    @Benchmark
+    public boolean isDateExpiring() {
+        return Utils.isDateExpiring(token.getAccessTokenExpiration(),
+            TokenManager.EXPIRATION_MARGIN_SECONDS);
+    }
+
+    @Benchmark
+    public String getAccessToken() {
+        return tokenManager.getAccessToken();
+    }
+
+    @Benchmark
+    public Response interceptRequest() throws IOException {
+        return oauthInterceptor.intercept(chain);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(OAuthInterceptorBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * Chain answering every request with the same response, so only the work of the interceptor
+     * is measured.
+     */
+    private static class ProceedingChain implements Interceptor.Chain {
+
+        private final Request request;
+        private final Response response;
+
+        ProceedingChain(final Request request) {
+            this.request = request;
+            this.response = new Response.Builder().request(request).protocol(Protocol.HTTP_1_1)
+                .code(200).message("OK").build();
+        }
+
+        @Override
+        public Request request() {
+            return request;
+        }
+
+        @Override
+        public Response proceed(final Request request) {
+            return response;
+        }
+
+        @Override
+        public Connection connection() {
+            return null;
+        }
+
+        @Override
+        public Call call() {
+            return null;
+        }
+
+        @Override
+        public int connectTimeoutMillis() {
+            return 0;
+        }
+
+        @Override
+        public Interceptor.Chain withConnectTimeout(final int timeout, final TimeUnit unit) {
+            return this;
+        }
+
+        @Override
+        public int readTimeoutMillis() {
+            return 0;
+        }
+
+        @Override
+        public Interceptor.Chain withReadTimeout(final int timeout, final TimeUnit unit) {
+            return this;
+        }
+
+        @Override
+        public int writeTimeoutMillis() {
+            return 0;
+        }
+
+        @Override
+        public Interceptor.Chain withWriteTimeout(final int timeout, final TimeUnit unit) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ *
+ * JUnit framework component copyright (c) 2002-2017 JUnit. All Rights Reserved. Licensed under
+ * Eclipse Public License - v 1.0. You may obtain a copy of the License at
+ * https://www.eclipse.org/legal/epl-v10.html.
+ */
+package com.bynder.sdk.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Interceptor;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * Tests the {@link RateLimiter} class methods.
+ */
+public class RateLimiterTest {
+
+    public static final double REQUESTS_PER_SECOND = 10;
+    public static final int BURST = 2;
+    public static final double DELTA = 0.0001;
+
+    @Mock
+    private Interceptor.Chain chain;
+    private Request request;
+    private FakeClock clock;
+    private RateLimiter rateLimiter;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        request = new Request.Builder().url("https://example.bynder.com/api/v4/media/").build();
+        when(chain.request()).thenReturn(request);
+        clock = new FakeClock();
+        rateLimiter = new RateLimiter(REQUESTS_PER_SECOND, BURST, clock);
+    }
+
+    @Test
+    public void interceptWaitsForPermitsAfterBurst() throws Exception {
+        when(chain.proceed(any())).thenReturn(createResponse(200, null));
+
+        for (int i = 0; i < BURST + 2; i++) {
+            rateLimiter.intercept(chain);
+        }
+
+        assertEquals(Arrays.asList(TimeUnit.MILLISECONDS.toNanos(100),
+            TimeUnit.MILLISECONDS.toNanos(100)), clock.sleeps);
+    }
+
+    @Test
+    public void interceptRetriesAfterTooManyRequests() throws Exception {
+        when(chain.proceed(any())).thenReturn(createResponse(RateLimiter.TOO_MANY_REQUESTS, "2"),
+            createResponse(200, null));
+
+        Response response = rateLimiter.intercept(chain);
+
+        assertEquals(200, response.code());
+        verify(chain, times(2)).proceed(request);
+        assertEquals(Arrays.asList(TimeUnit.SECONDS.toNanos(2)), clock.sleeps);
+        // halved, then raised after the accepted retry
+        assertEquals(REQUESTS_PER_SECOND / 2 + REQUESTS_PER_SECOND / 100,
+            rateLimiter.getRequestsPerSecond(), DELTA);
+    }
+
+    @Test
+    public void interceptReturnsTooManyRequestsAfterMaxRetries() throws Exception {
+        when(chain.proceed(any()))
+            .thenAnswer(invocation -> createResponse(RateLimiter.TOO_MANY_REQUESTS, null));
+
+        Response response = rateLimiter.intercept(chain);
+
+        assertEquals(RateLimiter.TOO_MANY_REQUESTS, response.code());
+        verify(chain, times(RateLimiter.MAX_RATE_LIMITED_RETRIES + 1)).proceed(request);
+        assertEquals(RateLimiter.MAX_RATE_LIMITED_RETRIES, clock.sleeps.size());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(RateLimiter.DEFAULT_RETRY_AFTER_MILLIS),
+            (long) clock.sleeps.get(0));
+        assertEquals(REQUESTS_PER_SECOND / 10, rateLimiter.getRequestsPerSecond(), DELTA);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createRateLimiterWithoutRate() {
+        new RateLimiter(0, BURST);
+    }
+
+    private Response createResponse(final int code, final String retryAfter) {
+        Response.Builder responseBuilder = new Response.Builder().request(request)
+            .protocol(Protocol.HTTP_1_1).code(code).message("")
+            .body(ResponseBody.create(null, ""));
+        if (retryAfter != null) {
+            responseBuilder.header("Retry-After", retryAfter);
+        }
+        return responseBuilder.build();
+    }
+
+    /**
+     * Clock whose time only advances when sleeping.
+     */
+    private static class FakeClock implements Clock {
+
+        private final List<Long> sleeps = new ArrayList<>();
+        private long nanoTime;
+
+        @Override
+        public long nanoTime() {
+            return nanoTime;
+        }
+
+        @Override
+        public void sleep(final long nanos) {
+            sleeps.add(nanos);
+            nanoTime += nanos;
+        }
+    }
+}
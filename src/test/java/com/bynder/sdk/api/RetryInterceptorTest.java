@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ *
+ * JUnit framework component copyright (c) 2002-2017 JUnit. All Rights Reserved. Licensed under
+ * Eclipse Public License - v 1.0. You may obtain a copy of the License at
+ * https://www.eclipse.org/legal/epl-v10.html.
+ */
+package com.bynder.sdk.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bynder.sdk.configuration.RetryPolicy;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import okhttp3.FormBody;
+import okhttp3.Interceptor;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import retrofit2.Invocation;
+
+/**
+ * Tests the {@link RetryInterceptor} class methods.
+ */
+public class RetryInterceptorTest {
+
+    public static final String URL = "https://example.bynder.com/api/v4/media/";
+    public static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private Interceptor.Chain chain;
+    private List<Long> sleeps;
+    private Clock clock;
+    private RetryInterceptor retryInterceptor;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        sleeps = new ArrayList<>();
+        clock = new Clock() {
+
+            @Override
+            public long nanoTime() {
+                return 0;
+            }
+
+            @Override
+            public void sleep(final long nanos) {
+                sleeps.add(nanos);
+            }
+        };
+        retryInterceptor = new RetryInterceptor(createRetryPolicy(), Collections.emptyMap(),
+            clock);
+    }
+
+    @Test
+    public void interceptRetriesGetAfterServiceUnavailable() throws Exception {
+        Request request = new Request.Builder().url(URL).build();
+        when(chain.request()).thenReturn(request);
+        when(chain.proceed(any())).thenReturn(createResponse(request, 503),
+            createResponse(request, 503), createResponse(request, 200));
+
+        Response response = retryInterceptor.intercept(chain);
+
+        assertEquals(200, response.code());
+        verify(chain, times(3)).proceed(request);
+        assertEquals(Arrays.asList(TimeUnit.MILLISECONDS.toNanos(100),
+            TimeUnit.MILLISECONDS.toNanos(200)), sleeps);
+    }
+
+    @Test(expected = SocketTimeoutException.class)
+    public void interceptThrowsAfterMaxAttempts() throws Exception {
+        Request request = new Request.Builder().url(URL).build();
+        when(chain.request()).thenReturn(request);
+        when(chain.proceed(any())).thenThrow(new SocketTimeoutException());
+
+        try {
+            retryInterceptor.intercept(chain);
+        } finally {
+            verify(chain, times(MAX_ATTEMPTS)).proceed(request);
+        }
+    }
+
+    @Test
+    public void interceptDoesNotRetryPost() throws Exception {
+        Request request = new Request.Builder().url(URL).post(new FormBody.Builder().build())
+            .build();
+        when(chain.request()).thenReturn(request);
+        when(chain.proceed(any())).thenReturn(createResponse(request, 503));
+
+        assertEquals(503, retryInterceptor.intercept(chain).code());
+        verify(chain, times(1)).proceed(request);
+    }
+
+    @Test
+    public void interceptDoesNotRetryAmazonS3PartUpload() throws Exception {
+        Request request = createRequest(AmazonS3Api.class.getMethod("uploadPartToAmazon",
+            Map.class));
+        when(chain.request()).thenReturn(request);
+        when(chain.proceed(any())).thenReturn(createResponse(request, 503));
+
+        assertEquals(503, retryInterceptor.intercept(chain).code());
+        verify(chain, times(1)).proceed(request);
+    }
+
+    @Test
+    public void interceptRetriesPostWithEndpointPolicy() throws Exception {
+        retryInterceptor = new RetryInterceptor(RetryPolicy.NONE,
+            Collections.singletonMap("registerChunk", createRetryPolicy()), clock);
+        Request request = createRequest(BynderApi.class.getMethod("registerChunk", Map.class));
+        when(chain.request()).thenReturn(request);
+        when(chain.proceed(any())).thenThrow(new IOException())
+            .thenReturn(createResponse(request, 204));
+
+        assertEquals(204, retryInterceptor.intercept(chain).code());
+        verify(chain, times(2)).proceed(request);
+    }
+
+    private static Request createRequest(final Method method) {
+        return new Request.Builder().url(URL).post(new FormBody.Builder().build())
+            .tag(Invocation.class,
+                Invocation.of(method, Collections.singletonList(Collections.emptyMap())))
+            .build();
+    }
+
+    private static RetryPolicy createRetryPolicy() {
+        return new RetryPolicy(MAX_ATTEMPTS, 100, 1000, 2, 0, Collections.singleton(503));
+    }
+
+    private static Response createResponse(final Request request, final int code) {
+        return new Response.Builder().request(request).protocol(Protocol.HTTP_1_1).code(code)
+            .message("").body(ResponseBody.create(null, "")).build();
+    }
+}
@@ -13,9 +13,12 @@ package com.bynder.sdk.configuration;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
+import java.util.Arrays;
+import java.util.Collections;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.X509TrustManager;
 import okhttp3.Interceptor;
+import okhttp3.Protocol;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -29,6 +32,12 @@ public class HttpConnectionSettingsTest {
     public static final int EXPECTED_TIMEOUT_SECONDS = 30;
     public static final boolean EXPECTED_RETRY_ON_CONNECTION_FAILURE = true;
     public static final boolean EXPECTED_LOGGING_INTERCEPTOR_ENABLED = false;
+    public static final int EXPECTED_MAX_IDLE_CONNECTIONS = 10;
+    public static final long EXPECTED_KEEP_ALIVE_DURATION_SECONDS = 60;
+    public static final int EXPECTED_MAX_REQUESTS = 128;
+    public static final int EXPECTED_MAX_REQUESTS_PER_HOST = 32;
+    public static final double EXPECTED_MAX_REQUESTS_PER_SECOND = 10;
+    public static final int EXPECTED_RATE_LIMIT_BURST = 5;
 
     @Mock
     private SSLContext sslContext;
@@ -55,6 +64,15 @@ public class HttpConnectionSettingsTest {
         assertNull(httpConnectionSettings.getSslContext());
         assertNull(httpConnectionSettings.getTrustManager());
         assertNull(httpConnectionSettings.getCustomInterceptor());
+        assertEquals(HttpConnectionSettings.DEFAULT_MAX_IDLE_CONNECTIONS,
+            httpConnectionSettings.getMaxIdleConnections());
+        assertEquals(HttpConnectionSettings.DEFAULT_KEEP_ALIVE_DURATION_SECONDS,
+            httpConnectionSettings.getKeepAliveDurationSeconds());
+        assertEquals(HttpConnectionSettings.DEFAULT_MAX_REQUESTS,
+            httpConnectionSettings.getMaxRequests());
+        assertEquals(HttpConnectionSettings.DEFAULT_MAX_REQUESTS_PER_HOST,
+            httpConnectionSettings.getMaxRequestsPerHost());
+        assertNull(httpConnectionSettings.getProtocols());
     }
 
     @Test
@@ -90,4 +108,48 @@ public class HttpConnectionSettingsTest {
         assertEquals(EXPECTED_LOGGING_INTERCEPTOR_ENABLED,
             httpConnectionSettings.isLoggingInterceptorEnabled());
     }
+
+    @Test
+    public void setConnectionLimits() {
+        HttpConnectionSettings httpConnectionSettings = new HttpConnectionSettings()
+            .setConnectionPool(EXPECTED_MAX_IDLE_CONNECTIONS, EXPECTED_KEEP_ALIVE_DURATION_SECONDS)
+            .setDispatcherLimits(EXPECTED_MAX_REQUESTS, EXPECTED_MAX_REQUESTS_PER_HOST);
+
+        assertEquals(EXPECTED_MAX_IDLE_CONNECTIONS, httpConnectionSettings.getMaxIdleConnections());
+        assertEquals(EXPECTED_KEEP_ALIVE_DURATION_SECONDS,
+            httpConnectionSettings.getKeepAliveDurationSeconds());
+        assertEquals(EXPECTED_MAX_REQUESTS, httpConnectionSettings.getMaxRequests());
+        assertEquals(EXPECTED_MAX_REQUESTS_PER_HOST,
+            httpConnectionSettings.getMaxRequestsPerHost());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setDispatcherLimitsWithoutRequests() {
+        new HttpConnectionSettings().setDispatcherLimits(EXPECTED_MAX_REQUESTS, 0);
+    }
+
+    @Test
+    public void setProtocols() {
+        HttpConnectionSettings httpConnectionSettings = new HttpConnectionSettings()
+            .setProtocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE));
+
+        assertEquals(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE),
+            httpConnectionSettings.getProtocols());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setProtocolsWithPriorKnowledgeAndHttp11() {
+        new HttpConnectionSettings()
+            .setProtocols(Arrays.asList(Protocol.H2_PRIOR_KNOWLEDGE, Protocol.HTTP_1_1));
+    }
+
+    @Test
+    public void setRateLimit() {
+        HttpConnectionSettings httpConnectionSettings = new HttpConnectionSettings()
+            .setRateLimit(EXPECTED_MAX_REQUESTS_PER_SECOND, EXPECTED_RATE_LIMIT_BURST);
+
+        assertEquals(EXPECTED_MAX_REQUESTS_PER_SECOND,
+            httpConnectionSettings.getMaxRequestsPerSecond(), 0);
+        assertEquals(EXPECTED_RATE_LIMIT_BURST, httpConnectionSettings.getRateLimitBurst());
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ *
+ * JUnit framework component copyright (c) 2002-2017 JUnit. All Rights Reserved. Licensed under
+ * Eclipse Public License - v 1.0. You may obtain a copy of the License at
+ * https://www.eclipse.org/legal/epl-v10.html.
+ */
+package com.bynder.sdk.configuration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.bynder.sdk.model.oauth.Token;
+import org.junit.Test;
+
+/**
+ * Tests the {@link OAuthSettings} class methods.
+ */
+public class OAuthSettingsTest {
+
+    public static final String EXPECTED_ACCESS_TOKEN = "accessToken";
+    public static final String EXPECTED_REFRESH_TOKEN = "refreshToken";
+
+    @Test
+    public void setToken() {
+        OAuthSettings oauthSettings = new OAuthSettings();
+        assertNull(oauthSettings.getToken());
+
+        Token token = new Token(EXPECTED_ACCESS_TOKEN, 3600, null, null, EXPECTED_REFRESH_TOKEN);
+        oauthSettings.setToken(token);
+        assertSame(token, oauthSettings.getToken());
+    }
+
+    @Test
+    public void refreshTokenKeepsRefreshTokenWithoutModifyingNewToken() {
+        OAuthSettings oauthSettings = new OAuthSettings();
+        oauthSettings.setToken(new Token("oldAccessToken", 3600, null, null,
+            EXPECTED_REFRESH_TOKEN));
+
+        Token newToken = new Token(EXPECTED_ACCESS_TOKEN, 3600, null, null, null)
+            .withAccessTokenExpiration();
+        oauthSettings.refreshToken(newToken);
+
+        assertEquals(EXPECTED_ACCESS_TOKEN, oauthSettings.getToken().getAccessToken());
+        assertEquals(EXPECTED_REFRESH_TOKEN, oauthSettings.getToken().getRefreshToken());
+        assertEquals(newToken.getAccessTokenExpirationMillis(),
+            oauthSettings.getToken().getAccessTokenExpirationMillis());
+        assertNull(newToken.getRefreshToken());
+    }
+}
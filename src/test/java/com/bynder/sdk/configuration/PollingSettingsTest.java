@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ *
+ * JUnit framework component copyright (c) 2002-2017 JUnit. All Rights Reserved. Licensed under
+ * Eclipse Public License - v 1.0. You may obtain a copy of the License at
+ * https://www.eclipse.org/legal/epl-v10.html.
+ */
+package com.bynder.sdk.configuration;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link PollingSettings} class methods.
+ */
+public class PollingSettingsTest {
+
+    public static final double DELTA = 0;
+
+    @Test
+    public void initializePollingSettingsWithoutArguments() {
+        PollingSettings pollingSettings = new PollingSettings();
+
+        assertEquals(PollingSettings.DEFAULT_INITIAL_INTERVAL_MILLIS,
+            pollingSettings.getInitialIntervalMillis());
+        assertEquals(PollingSettings.DEFAULT_MAX_INTERVAL_MILLIS,
+            pollingSettings.getMaxIntervalMillis());
+        assertEquals(PollingSettings.DEFAULT_BACKOFF_MULTIPLIER,
+            pollingSettings.getBackoffMultiplier(), DELTA);
+        assertEquals(PollingSettings.DEFAULT_MAX_WAIT_MILLIS, pollingSettings.getMaxWaitMillis());
+    }
+
+    @Test
+    public void getNextIntervalMillisIsBoundedByMaxInterval() {
+        PollingSettings pollingSettings = new PollingSettings(100, 300, 2, 1000);
+
+        assertEquals(200, pollingSettings.getNextIntervalMillis(100));
+        assertEquals(300, pollingSettings.getNextIntervalMillis(200));
+        assertEquals(300, pollingSettings.getNextIntervalMillis(300));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void initializePollingSettingsWithInvalidMultiplier() {
+        new PollingSettings(100, 300, 0.5, 1000);
+    }
+}
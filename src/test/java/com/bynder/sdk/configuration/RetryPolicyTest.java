@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ *
+ * JUnit framework component copyright (c) 2002-2017 JUnit. All Rights Reserved. Licensed under
+ * Eclipse Public License - v 1.0. You may obtain a copy of the License at
+ * https://www.eclipse.org/legal/epl-v10.html.
+ */
+package com.bynder.sdk.configuration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import org.junit.Test;
+
+/**
+ * Tests the {@link RetryPolicy} class methods.
+ */
+public class RetryPolicyTest {
+
+    public static final int EXPECTED_MAX_ATTEMPTS = 5;
+    public static final long EXPECTED_INITIAL_BACKOFF_MILLIS = 100;
+    public static final long EXPECTED_MAX_BACKOFF_MILLIS = 1000;
+    public static final double EXPECTED_BACKOFF_MULTIPLIER = 3;
+    public static final double EXPECTED_JITTER = 0.5;
+
+    @Test
+    public void initializeRetryPolicyWithoutArguments() {
+        RetryPolicy retryPolicy = new RetryPolicy();
+
+        assertEquals(RetryPolicy.DEFAULT_MAX_ATTEMPTS, retryPolicy.getMaxAttempts());
+        assertTrue(retryPolicy.isRetryableStatusCode(503));
+        assertFalse(retryPolicy.isRetryableStatusCode(404));
+    }
+
+    @Test
+    public void getBackoffMillis() {
+        RetryPolicy retryPolicy = new RetryPolicy(EXPECTED_MAX_ATTEMPTS,
+            EXPECTED_INITIAL_BACKOFF_MILLIS, EXPECTED_MAX_BACKOFF_MILLIS,
+            EXPECTED_BACKOFF_MULTIPLIER, EXPECTED_JITTER, Collections.singleton(503));
+
+        assertEquals(100, retryPolicy.getBackoffMillis(1, 0));
+        assertEquals(300, retryPolicy.getBackoffMillis(2, 0));
+        assertEquals(900, retryPolicy.getBackoffMillis(3, 0));
+        assertEquals(1000, retryPolicy.getBackoffMillis(4, 0));
+        assertEquals(500, retryPolicy.getBackoffMillis(4, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void initializeRetryPolicyWithInvalidJitter() {
+        new RetryPolicy(EXPECTED_MAX_ATTEMPTS, EXPECTED_INITIAL_BACKOFF_MILLIS,
+            EXPECTED_MAX_BACKOFF_MILLIS, EXPECTED_BACKOFF_MULTIPLIER, 2,
+            Collections.singleton(503));
+    }
+}
@@ -25,6 +25,7 @@ public class RefreshTokenCallbackTest {
     public static int MOCK_INT = 0;
 
     private Token token;
+    private Token refreshedToken;
     private RefreshTokenCallback callback;
 
     @Before
@@ -34,7 +35,7 @@ public class RefreshTokenCallbackTest {
         this.callback = new RefreshTokenCallback() {
             @Override
             public void execute(Token token) {
-                token.setAccessTokenExpiration();
+                refreshedToken = token.withAccessTokenExpiration();
             }
         };
     }
@@ -43,6 +44,6 @@ public class RefreshTokenCallbackTest {
     public void executeRefreshTokenCallback() {
         assertNull(token.getAccessTokenExpiration());
         callback.execute(token);
-        assertNotNull(token.getAccessTokenExpiration());
+        assertNotNull(refreshedToken.getAccessTokenExpiration());
     }
 }
@@ -11,6 +11,7 @@
 package com.bynder.sdk.model.oauth;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 
 import java.util.Calendar;
@@ -47,8 +48,8 @@ public class TokenTest {
     }
 
     @Test
-    public void setAccessTokenExpirationDate() {
-        token.setAccessTokenExpiration();
+    public void withAccessTokenExpirationDate() {
+        token = token.withAccessTokenExpiration();
         Calendar currentDate = Calendar.getInstance();
 
         Calendar expirationDate = Calendar.getInstance();
@@ -61,4 +62,38 @@ public class TokenTest {
         assertEquals(currentDate.MINUTE, expirationDate.MINUTE);
         assertEquals(currentDate.SECOND, expirationDate.SECOND);
     }
+
+    @Test
+    public void getAccessTokenExpirationMillis() {
+        assertEquals(0, token.getAccessTokenExpirationMillis());
+
+        Token expiringToken = token.withAccessTokenExpiration();
+        assertEquals(0, token.getAccessTokenExpirationMillis());
+        assertEquals(expiringToken.getAccessTokenExpiration().getTime(),
+            expiringToken.getAccessTokenExpirationMillis());
+    }
+
+    @Test
+    public void withRefreshTokenCreatesCopy() {
+        token = token.withAccessTokenExpiration();
+        Token copy = token.withRefreshToken("otherRefreshToken");
+
+        assertNotSame(token, copy);
+        assertEquals("otherRefreshToken", copy.getRefreshToken());
+        assertEquals(EXPECTED_REFRESH_TOKEN, token.getRefreshToken());
+        assertEquals(EXPECTED_ACCESS_TOKEN, copy.getAccessToken());
+        assertEquals(token.getAccessTokenExpiration(), copy.getAccessTokenExpiration());
+        assertEquals(token.getAccessTokenExpirationMillis(),
+            copy.getAccessTokenExpirationMillis());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void deprecatedSettersDoNotChangeToken() {
+        token.setRefreshToken("otherRefreshToken");
+        token.setAccessTokenExpiration();
+
+        assertEquals(EXPECTED_REFRESH_TOKEN, token.getRefreshToken());
+        assertNull(token.getAccessTokenExpiration());
+    }
 }
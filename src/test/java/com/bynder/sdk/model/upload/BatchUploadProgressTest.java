@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ *
+ * JUnit framework component copyright (c) 2002-2017 JUnit. All Rights Reserved. Licensed under
+ * Eclipse Public License - v 1.0. You may obtain a copy of the License at
+ * https://www.eclipse.org/legal/epl-v10.html.
+ */
+package com.bynder.sdk.model.upload;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.bynder.sdk.query.upload.UploadQuery;
+import org.junit.Test;
+
+/**
+ * Tests the {@link BatchUploadProgress} class methods.
+ */
+public class BatchUploadProgressTest {
+
+    public static final UploadQuery UPLOAD_QUERY = new UploadQuery("filePath", "brandId");
+
+    @Test
+    public void initializeBatchUploadProgressWithProgress() {
+        UploadProgress uploadProgress = new UploadProgress(1);
+        BatchUploadProgress batchUploadProgress = new BatchUploadProgress(UPLOAD_QUERY,
+            uploadProgress);
+
+        assertEquals(UPLOAD_QUERY, batchUploadProgress.getUploadQuery());
+        assertEquals(uploadProgress, batchUploadProgress.getUploadProgress());
+        assertNull(batchUploadProgress.getError());
+        assertFalse(batchUploadProgress.isFailed());
+        assertFalse(batchUploadProgress.isFinished());
+
+        uploadProgress.setFinished(true);
+        assertTrue(batchUploadProgress.isFinished());
+    }
+
+    @Test
+    public void initializeBatchUploadProgressWithError() {
+        Exception error = new Exception();
+        BatchUploadProgress batchUploadProgress = new BatchUploadProgress(UPLOAD_QUERY, error);
+
+        assertEquals(UPLOAD_QUERY, batchUploadProgress.getUploadQuery());
+        assertNull(batchUploadProgress.getUploadProgress());
+        assertEquals(error, batchUploadProgress.getError());
+        assertTrue(batchUploadProgress.isFailed());
+        assertFalse(batchUploadProgress.isFinished());
+    }
+}
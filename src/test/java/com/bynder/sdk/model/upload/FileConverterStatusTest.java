@@ -19,6 +19,7 @@ import org.junit.Test;
 /**
  * Tests the {@link FileConverterStatus} class methods.
  */
+@SuppressWarnings("deprecation")
 public class FileConverterStatusTest {
 
     public static final int EXPECTED_ATTEMPTS = 3;
@@ -10,15 +10,19 @@
  */
 package com.bynder.sdk.model.upload;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertFalse;
-import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import okio.Buffer;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -28,7 +32,6 @@ import org.mockito.MockitoAnnotations;
 public class UploadProcessDataTest {
 
     public static final int MAX_CHUNK_SIZE = 1024 * 1024 * 5;
-    public static final int EXPECTED_CHUNK_NUMBER = 0;
     public static final int EXPECTED_NUMBER_OF_CHUNKS = 1;
     public static final long FILE_LENGTH = 1000;
 
@@ -39,6 +42,8 @@ public class UploadProcessDataTest {
     @Mock
     private UploadRequest uploadRequest;
     private UploadProcessData uploadProcessData;
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
 
     @Before
@@ -54,15 +59,34 @@ public class UploadProcessDataTest {
     public void initializeUploadProcessData() {
         assertEquals(file, uploadProcessData.getFile());
         assertEquals(uploadRequest, uploadProcessData.getUploadRequest());
-        assertEquals(EXPECTED_CHUNK_NUMBER, uploadProcessData.getChunkNumber());
         assertEquals(EXPECTED_NUMBER_OF_CHUNKS, uploadProcessData.getNumberOfChunks());
-        assertFalse(uploadProcessData.isCompleted());
     }
 
     @Test
-    public void incrementChunkAndCompleteUploadProcessData() {
-        uploadProcessData.incrementChunk();
-        assertEquals(EXPECTED_CHUNK_NUMBER + 1, uploadProcessData.getChunkNumber());
-        assertTrue(uploadProcessData.isCompleted());
+    public void getChunkStreamsChunksInAnyOrder() throws Exception {
+        byte[] content = new byte[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+        File contentFile = temporaryFolder.newFile();
+        Files.write(contentFile.toPath(), content);
+
+        try (FileInputStream contentInputStream = new FileInputStream(contentFile)) {
+            UploadProcessData chunkedProcessData = new UploadProcessData(contentFile,
+                contentInputStream, uploadRequest, 4);
+
+            assertEquals(3, chunkedProcessData.getNumberOfChunks());
+            assertEquals(2, chunkedProcessData.getChunkSize(3));
+            assertArrayEquals(Arrays.copyOfRange(content, 8, 10),
+                readChunk(chunkedProcessData, 3));
+            assertArrayEquals(Arrays.copyOfRange(content, 0, 4),
+                readChunk(chunkedProcessData, 1));
+            assertArrayEquals(Arrays.copyOfRange(content, 4, 8),
+                readChunk(chunkedProcessData, 2));
+        }
+    }
+
+    private static byte[] readChunk(final UploadProcessData uploadProcessData,
+        final int chunkNumber) throws Exception {
+        Buffer buffer = new Buffer();
+        uploadProcessData.getChunk(chunkNumber).writeTo(buffer);
+        return buffer.readByteArray();
     }
 }
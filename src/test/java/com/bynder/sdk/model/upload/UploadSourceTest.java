@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ *
+ * JUnit framework component copyright (c) 2002-2017 JUnit. All Rights Reserved. Licensed under
+ * Eclipse Public License - v 1.0. You may obtain a copy of the License at
+ * https://www.eclipse.org/legal/epl-v10.html.
+ */
+package com.bynder.sdk.model.upload;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import org.junit.Test;
+
+/**
+ * Tests the {@link UploadSource} class methods.
+ */
+public class UploadSourceTest {
+
+    public static final String NAME = "file.jpg";
+    public static final byte[] CONTENT = "0123456789".getBytes();
+    public static final int CHUNK_SIZE = 4;
+
+    @Test
+    public void readByteBufferChunksInAnyOrder() throws Exception {
+        ByteBuffer byteBuffer = ByteBuffer.wrap(CONTENT);
+        byteBuffer.position(2);
+        UploadSource uploadSource = UploadSource.fromByteBuffer(NAME, byteBuffer);
+
+        assertEquals(NAME, uploadSource.getName());
+        assertNull(uploadSource.getFile());
+        assertEquals(CONTENT.length - 2, uploadSource.getLength());
+        assertArrayEquals(Arrays.copyOfRange(CONTENT, 6, 10), read(uploadSource.readChunk(4, 4)));
+        assertArrayEquals(Arrays.copyOfRange(CONTENT, 2, 6), read(uploadSource.readChunk(0, 4)));
+        assertEquals(2, byteBuffer.position());
+    }
+
+    @Test
+    public void readChunkSeveralTimes() throws Exception {
+        RequestBody chunk = UploadSource.fromInputStream(NAME, new ByteArrayInputStream(CONTENT),
+            CONTENT.length).readChunk(0, CHUNK_SIZE);
+
+        assertArrayEquals(Arrays.copyOf(CONTENT, CHUNK_SIZE), read(chunk));
+        assertArrayEquals(Arrays.copyOf(CONTENT, CHUNK_SIZE), read(chunk));
+    }
+
+    @Test
+    public void readInputStreamChunksInOrder() throws Exception {
+        UploadSource uploadSource = UploadSource.fromInputStream(NAME,
+            new ByteArrayInputStream(CONTENT), CONTENT.length);
+
+        assertEquals(CONTENT.length, uploadSource.getLength());
+        assertArrayEquals(Arrays.copyOfRange(CONTENT, 0, 4), read(uploadSource.readChunk(0, 4)));
+        assertArrayEquals(Arrays.copyOfRange(CONTENT, 4, 8), read(uploadSource.readChunk(4, 4)));
+        assertArrayEquals(Arrays.copyOfRange(CONTENT, 8, 10), read(uploadSource.readChunk(8, 2)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void readInputStreamChunksOutOfOrder() throws Exception {
+        UploadSource uploadSource = UploadSource.fromInputStream(NAME,
+            new ByteArrayInputStream(CONTENT), CONTENT.length);
+
+        uploadSource.readChunk(4, 4);
+    }
+
+    @Test(expected = EOFException.class)
+    public void readInputStreamShorterThanLength() throws Exception {
+        UploadSource uploadSource = UploadSource.fromInputStream(NAME,
+            new ByteArrayInputStream(CONTENT), CONTENT.length + 1);
+
+        uploadSource.readChunk(0, CONTENT.length + 1);
+    }
+
+    @Test
+    public void readChannelOfUnknownLength() throws Exception {
+        UploadSource uploadSource = UploadSource.fromChannel(NAME,
+            Channels.newChannel(new ByteArrayInputStream(CONTENT)));
+
+        assertEquals(CONTENT.length, uploadSource.getLength());
+        assertArrayEquals(Arrays.copyOfRange(CONTENT, 8, 10), read(uploadSource.readChunk(8, 2)));
+    }
+
+    @Test
+    public void readChannelOfUnknownLengthAcrossBlocks() throws Exception {
+        byte[] content = new byte[UploadSource.BLOCK_SIZE * 2 + CHUNK_SIZE];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        UploadSource uploadSource = UploadSource.fromChannel(NAME,
+            Channels.newChannel(new ByteArrayInputStream(content)));
+
+        assertEquals(content.length, uploadSource.getLength());
+        int offset = UploadSource.BLOCK_SIZE - CHUNK_SIZE;
+        int length = UploadSource.BLOCK_SIZE + CHUNK_SIZE * 2;
+        assertArrayEquals(Arrays.copyOfRange(content, offset, offset + length),
+            read(uploadSource.readChunk(offset, length)));
+        assertArrayEquals(Arrays.copyOfRange(content, content.length - 1, content.length),
+            read(uploadSource.readChunk(content.length - 1, 1)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createChannelSourceWithNegativeLength() {
+        UploadSource.fromChannel(NAME, Channels.newChannel(new ByteArrayInputStream(CONTENT)), -1);
+    }
+
+    private static byte[] read(final RequestBody chunk) throws IOException {
+        Buffer buffer = new Buffer();
+        chunk.writeTo(buffer);
+        assertEquals(chunk.contentLength(), buffer.size());
+        return buffer.readByteArray();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ */
+package com.bynder.sdk.query.decoder;
+
+import com.bynder.sdk.model.MediaType;
+import com.bynder.sdk.query.MediaQuery;
+import com.bynder.sdk.query.OrderBy;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the decoding of a query by {@link QueryDecoder} with its cached decoding plan,
+ * against looking up the annotated fields with reflection on every decoding. Also compares the
+ * ways the plan can read a field: a cached accessible {@link Field}, or a {@link MethodHandle}
+ * held in an instance field, called with {@link MethodHandle#invoke} or adapted to
+ * {@code (Object)Object} and called with {@link MethodHandle#invokeExact}. As such handles are
+ * not constant-folded, they are not faster than the {@link Field}, which the plan uses. Run it
+ * with the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryDecoderBenchmark {
+
+    private QueryDecoder queryDecoder;
+    private MediaQuery mediaQuery;
+    private Field field;
+    private MethodHandle getter;
+    private MethodHandle exactGetter;
+
+    @Setup
+    public void setUp() throws Exception {
+        queryDecoder = new QueryDecoder();
+        mediaQuery = new MediaQuery().setType(MediaType.IMAGE).setKeyword("keyword")
+            .setLimit(50).setPage(1).setOrderBy(OrderBy.NAME_ASC)
+            .setPropertyOptionIds("optionId1", "optionId2");
+
+        field = MediaQuery.class.getDeclaredField("keyword");
+        field.setAccessible(true);
+        getter = MethodHandles.lookup().unreflectGetter(field);
+        exactGetter = getter.asType(MethodType.methodType(Object.class, Object.class));
+    }
+
+    @Benchmark
+    public Map<String, String> decode() {
+        return queryDecoder.decode(mediaQuery);
+    }
+
+    @Benchmark
+    public Map<String, String> decodeWithReflection() throws ReflectiveOperationException {
+        Map<String, String> parameters = new HashMap<>();
+        List<Field> fields = new ArrayList<>(Arrays.asList(MediaQuery.class.getDeclaredFields()));
+        fields.addAll(Arrays.asList(MediaQuery.class.getSuperclass().getDeclaredFields()));
+        for (Field field : fields) {
+            field.setAccessible(true);
+            ApiField apiField = field.getAnnotation(ApiField.class);
+            Object fieldValue = field.get(mediaQuery);
+            if (apiField != null && fieldValue != null) {
+                String name = ApiField.DEFAULT_NAME.equals(apiField.name()) ? field.getName()
+                    : apiField.name();
+                if (apiField.decoder().equals(void.class)) {
+                    parameters.put(name, fieldValue.toString());
+                } else {
+                    parameters.putAll(((ParameterDecoder) apiField.decoder().newInstance())
+                        .decode(name, fieldValue));
+                }
+            }
+            field.setAccessible(false);
+        }
+        return parameters;
+    }
+
+    @Benchmark
+    public Object readWithField() throws IllegalAccessException {
+        return field.get(mediaQuery);
+    }
+
+    @Benchmark
+    public Object readWithMethodHandleInvoke() throws Throwable {
+        return getter.invoke((Object) mediaQuery);
+    }
+
+    @Benchmark
+    public Object readWithMethodHandleInvokeExact() throws Throwable {
+        return (Object) exactGetter.invokeExact((Object) mediaQuery);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(QueryDecoderBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -14,6 +14,7 @@ import static org.junit.Assert.assertEquals;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -47,6 +48,28 @@ public class QueryParameterDecoderTest {
         assertEquals(EXPECTED_NAME, parameters.get("name"));
     }
 
+    @Test
+    public void decodeObjectWithSuperclassFields() {
+        QueryObjectSubclass object = new QueryObjectSubclass(EXPECTED_ID, EXPECTED_NAME,
+            DESCRIPTION);
+        Map<String, String> parameters = queryDecoder.decode(object);
+        assertEquals(3, parameters.size());
+        assertEquals(EXPECTED_ID, parameters.get("id"));
+        assertEquals(EXPECTED_NAME, parameters.get("name"));
+        assertEquals(DESCRIPTION, parameters.get("subclassDescription"));
+    }
+
+    @Test
+    public void decodeObjectsReusesParameterDecoder() {
+        int instances = CountingDecoder.instances.get();
+        for (int i = 0; i < 3; i++) {
+            Map<String, String> parameters = new QueryDecoder()
+                .decode(new CountingQueryObject(EXPECTED_NAME + i));
+            assertEquals(EXPECTED_NAME + i, parameters.get("name"));
+        }
+        assertEquals(1, CountingDecoder.instances.get() - instances);
+    }
+
     static class QueryObject {
 
         @ApiField(name = "id")
@@ -68,6 +91,36 @@ public class QueryParameterDecoderTest {
         }
     }
 
+    static class QueryObjectSubclass extends QueryObject {
+
+        @ApiField
+        private String subclassDescription;
+
+        QueryObjectSubclass(String id, String name, String description) {
+            super(id, name, description);
+            this.subclassDescription = description;
+        }
+    }
+
+    static class CountingQueryObject {
+
+        @ApiField(decoder = CountingDecoder.class)
+        private String name;
+
+        CountingQueryObject(String name) {
+            this.name = name;
+        }
+    }
+
+    static class CountingDecoder extends MockDecoder {
+
+        static final AtomicInteger instances = new AtomicInteger();
+
+        CountingDecoder() {
+            instances.incrementAndGet();
+        }
+    }
+
     static class MockDecoder implements ParameterDecoder<String, String> {
 
         @Override
@@ -3,6 +3,7 @@ package com.bynder.sdk.query.upload;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import com.bynder.sdk.configuration.PollingSettings;
 import com.bynder.sdk.query.MetapropertyAttribute;
 import org.junit.Test;
 
@@ -20,6 +21,7 @@ public class UploadQueryTest {
     public static final String EXPECTED_METAPROPERTY_ID = "metapropertyId";
     public static final String EXPECTED_OPTION_NAME = "optionName";
     public static final Boolean EXPECTED_AUDIT = Boolean.TRUE;
+    public static final int EXPECTED_CHUNK_PARALLELISM = 4;
     public static final List<MetapropertyAttribute> EXPECTED_METAPROPERTIES = new ArrayList<>();
     public static final MetapropertyAttribute EXPECTED_METAPROPERTY = new MetapropertyAttribute(EXPECTED_METAPROPERTY_ID, new String[]{EXPECTED_OPTION_NAME});
     static {
@@ -39,5 +41,16 @@ public class UploadQueryTest {
         assertEquals(EXPECTED_BRAND_ID, uploadQuery.getBrandId());
         assertEquals(EXPECTED_MEDIA_ID, uploadQuery.getMediaId());
         assertEquals(EXPECTED_AUDIT, uploadQuery.isAudit());
+        assertEquals(UploadQuery.DEFAULT_CHUNK_PARALLELISM, uploadQuery.getChunkParallelism());
+
+        uploadQuery.setChunkParallelism(EXPECTED_CHUNK_PARALLELISM);
+        assertEquals(EXPECTED_CHUNK_PARALLELISM, uploadQuery.getChunkParallelism());
+        assertEquals(PollingSettings.DEFAULT_MAX_WAIT_MILLIS,
+            uploadQuery.getPollingSettings().getMaxWaitMillis());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setInvalidChunkParallelism() {
+        new UploadQuery(EXPECTED_FILE_PATH, EXPECTED_BRAND_ID).setChunkParallelism(0);
     }
 }
@@ -10,12 +10,18 @@
  */
 package com.bynder.sdk.service.asset;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.anyMap;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.bynder.sdk.api.BynderApi;
+import com.bynder.sdk.model.Media;
+import com.bynder.sdk.model.upload.BatchUploadProgress;
 import com.bynder.sdk.query.MediaDeleteQuery;
 import com.bynder.sdk.query.MediaDownloadQuery;
 import com.bynder.sdk.query.MediaInfoQuery;
@@ -26,10 +32,17 @@ import com.bynder.sdk.query.UsageCreateQuery;
 import com.bynder.sdk.query.UsageDeleteQuery;
 import com.bynder.sdk.query.UsageQuery;
 import com.bynder.sdk.query.decoder.QueryDecoder;
+import com.bynder.sdk.query.upload.UploadQuery;
+import io.reactivex.Observable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import okhttp3.ResponseBody;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import retrofit2.Response;
 
 
 /**
@@ -38,6 +51,7 @@ import org.mockito.MockitoAnnotations;
 public class AssetServiceImplTest {
 
     public static String EMPTY_STRING = "";
+    public static String S3_ENDPOINT = "https://bucket.s3.amazonaws.com/";
 
     @Mock
     private QueryDecoder queryDecoder;
@@ -81,6 +95,21 @@ public class AssetServiceImplTest {
         verify(queryDecoder, times(1)).decode(mediaQuery);
     }
 
+    @Test
+    public void getMediaListStream() {
+        MediaQuery mediaQuery = new MediaQuery();
+        when(bynderApi.getMediaListStream(anyMap())).thenReturn(Observable.just(
+            Response.success(ResponseBody.create(null, "[{\"id\":\"mediaId\"}]"))));
+
+        List<Media> mediaList = assetService.getMediaListStream(mediaQuery).toList()
+            .blockingGet();
+
+        assertEquals(1, mediaList.size());
+        assertEquals("mediaId", mediaList.get(0).getId());
+        verify(bynderApi, times(1)).getMediaListStream(anyMap());
+        verify(queryDecoder, times(1)).decode(mediaQuery);
+    }
+
     @Test
     public void getMediaInfo() {
         MediaInfoQuery mediaInfoQuery = new MediaInfoQuery(EMPTY_STRING);
@@ -148,4 +177,24 @@ public class AssetServiceImplTest {
         assetService.getSmartfilters();
         verify(bynderApi, times(1)).getSmartfilters();
     }
+
+    @Test
+    public void uploadFilesResolvesEndpointOnceAndIsolatesFailures() {
+        when(bynderApi.getClosestS3Endpoint())
+            .thenReturn(Observable.just(Response.success(S3_ENDPOINT)));
+        when(bynderApi.getUploadInformation(anyMap()))
+            .thenReturn(Observable.error(new IOException()));
+
+        List<BatchUploadProgress> batchUploadProgresses = assetService.uploadFiles(Arrays.asList(
+            new UploadQuery(EMPTY_STRING, EMPTY_STRING),
+            new UploadQuery(EMPTY_STRING, EMPTY_STRING)), 2).toList().blockingGet();
+
+        verify(bynderApi, times(1)).getClosestS3Endpoint();
+        verify(bynderApi, times(2)).getUploadInformation(anyMap());
+        assertEquals(2, batchUploadProgresses.size());
+        for (BatchUploadProgress batchUploadProgress : batchUploadProgresses) {
+            assertTrue(batchUploadProgress.isFailed());
+            assertFalse(batchUploadProgress.isFinished());
+        }
+    }
 }
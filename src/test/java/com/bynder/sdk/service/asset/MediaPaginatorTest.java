@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ *
+ * JUnit framework component copyright (c) 2002-2017 JUnit. All Rights Reserved. Licensed under
+ * Eclipse Public License - v 1.0. You may obtain a copy of the License at
+ * https://www.eclipse.org/legal/epl-v10.html.
+ */
+package com.bynder.sdk.service.asset;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bynder.sdk.api.BynderApi;
+import com.bynder.sdk.model.Media;
+import com.bynder.sdk.model.MediaType;
+import com.bynder.sdk.query.MediaQuery;
+import com.bynder.sdk.query.decoder.QueryDecoder;
+import com.google.gson.Gson;
+import io.reactivex.Observable;
+import io.reactivex.subscribers.TestSubscriber;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import okhttp3.ResponseBody;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import retrofit2.HttpException;
+import retrofit2.Response;
+
+/**
+ * Tests the {@link MediaPaginator} class methods.
+ */
+public class MediaPaginatorTest {
+
+    public static final int LIMIT = 2;
+
+    @Mock
+    private BynderApi bynderApi;
+    private MediaPaginator mediaPaginator;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        mediaPaginator = new MediaPaginator(bynderApi, new QueryDecoder());
+        when(bynderApi.getMediaList(anyMap())).thenAnswer(invocation -> {
+            Map<String, String> params = invocation.getArgument(0);
+            return Observable.just(Response.success(createPage(params.get("page"))));
+        });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void getMediaWalksThroughPagesUntilShortPage() {
+        List<String> mediaIds = mediaPaginator
+            .getMedia(new MediaQuery().setType(MediaType.IMAGE).setLimit(LIMIT))
+            .map(Media::getId).toList().blockingGet();
+
+        assertEquals(Arrays.asList("1-1", "1-2", "2-1", "2-2", "3-1"), mediaIds);
+
+        ArgumentCaptor<Map<String, String>> paramsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(bynderApi, atMost(4)).getMediaList(paramsCaptor.capture());
+        List<String> pages = paramsCaptor.getAllValues().stream()
+            .map(params -> params.get("page")).collect(Collectors.toList());
+        assertTrue(pages.containsAll(Arrays.asList("1", "2", "3")));
+        for (Map<String, String> params : paramsCaptor.getAllValues()) {
+            assertEquals(String.valueOf(LIMIT), params.get("limit"));
+            assertEquals(MediaType.IMAGE.toString(), params.get("type"));
+        }
+    }
+
+    @Test
+    public void getMediaStartsFromQueryPage() {
+        List<String> mediaIds = mediaPaginator
+            .getMedia(new MediaQuery().setLimit(LIMIT).setPage(2))
+            .map(Media::getId).toList().blockingGet();
+
+        assertEquals(Arrays.asList("2-1", "2-2", "3-1"), mediaIds);
+    }
+
+    @Test
+    public void getMediaFetchesPagesLazily() {
+        TestSubscriber<Media> testSubscriber = mediaPaginator
+            .getMedia(new MediaQuery().setLimit(LIMIT)).test(1);
+
+        testSubscriber.awaitCount(1);
+        testSubscriber.assertValueCount(1);
+        testSubscriber.assertNotComplete();
+        // current page and the one prefetched, the page after waits for the consumer
+        verify(bynderApi, atMost(2)).getMediaList(anyMap());
+
+        testSubscriber.requestMore(Long.MAX_VALUE);
+        testSubscriber.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        testSubscriber.assertValueCount(5);
+        testSubscriber.assertComplete();
+    }
+
+    @Test
+    public void getMediaWithConcurrentPagesInOrder() {
+        List<String> mediaIds = mediaPaginator
+            .getMedia(new MediaQuery().setLimit(LIMIT), 3, true)
+            .map(Media::getId).toList().blockingGet();
+
+        assertEquals(Arrays.asList("1-1", "1-2", "2-1", "2-2", "3-1"), mediaIds);
+    }
+
+    @Test
+    public void getMediaWithConcurrentPagesUnordered() {
+        List<String> mediaIds = mediaPaginator
+            .getMedia(new MediaQuery().setLimit(LIMIT), 3, false)
+            .map(Media::getId).toList().blockingGet();
+
+        assertEquals(5, mediaIds.size());
+        assertTrue(mediaIds.containsAll(Arrays.asList("1-1", "1-2", "2-1", "2-2", "3-1")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getMediaWithInvalidMaxConcurrentPages() {
+        mediaPaginator.getMedia(new MediaQuery(), 0, true);
+    }
+
+    @Test
+    public void getMediaWithErrorResponse() {
+        doReturn(Observable.just(Response.error(500, ResponseBody.create(null, ""))))
+            .when(bynderApi).getMediaList(anyMap());
+
+        TestSubscriber<Media> testSubscriber = mediaPaginator.getMedia(new MediaQuery()).test();
+
+        testSubscriber.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        testSubscriber.assertError(HttpException.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getMediaWithInvalidLimit() {
+        mediaPaginator.getMedia(new MediaQuery().setLimit(0));
+    }
+
+    /**
+     * Creates the media of a page: three pages, the last one with a single media.
+     */
+    private static List<Media> createPage(final String page) {
+        int size = Integer.parseInt(page) < 3 ? LIMIT : Integer.parseInt(page) == 3 ? 1 : 0;
+        Gson gson = new Gson();
+        List<Media> mediaList = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            mediaList.add(gson.fromJson(String.format("{\"id\":\"%s-%d\"}", page, i), Media.class));
+        }
+        return mediaList;
+    }
+}
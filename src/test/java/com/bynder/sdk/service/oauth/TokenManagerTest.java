@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ *
+ * JUnit framework component copyright (c) 2002-2017 JUnit. All Rights Reserved. Licensed under
+ * Eclipse Public License - v 1.0. You may obtain a copy of the License at
+ * https://www.eclipse.org/legal/epl-v10.html.
+ */
+package com.bynder.sdk.service.oauth;
+
+import static org.junit.Assert.assertEquals;
+
+import com.bynder.sdk.configuration.OAuthSettings;
+import com.bynder.sdk.exception.BynderRuntimeException;
+import com.bynder.sdk.model.oauth.Token;
+import io.reactivex.Observable;
+import io.reactivex.schedulers.TestScheduler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link TokenManager} class methods.
+ */
+public class TokenManagerTest {
+
+    public static final String EXPECTED_ACCESS_TOKEN = "accessToken";
+    public static final String EXPECTED_REFRESHED_ACCESS_TOKEN = "refreshedAccessToken";
+    public static final String EXPECTED_REFRESH_TOKEN = "refreshToken";
+    public static final int CONCURRENT_REQUESTS = 16;
+
+    private OAuthSettings oauthSettings;
+    private TestScheduler testScheduler;
+    private AtomicInteger refreshes;
+    private AtomicInteger callbacks;
+    private TokenManager tokenManager;
+
+    @Before
+    public void setUp() {
+        refreshes = new AtomicInteger();
+        callbacks = new AtomicInteger();
+        oauthSettings = new OAuthSettings(null, null, null, token -> callbacks.incrementAndGet());
+        testScheduler = new TestScheduler();
+        tokenManager = new TokenManager(oauthSettings, () -> Observable.fromCallable(() -> {
+            refreshes.incrementAndGet();
+            Thread.sleep(100);
+            Token token = new Token(EXPECTED_REFRESHED_ACCESS_TOKEN, 3600, null, null, null)
+                .withAccessTokenExpiration();
+            oauthSettings.refreshToken(token);
+            return token;
+        }), testScheduler);
+    }
+
+    @Test(expected = BynderRuntimeException.class)
+    public void getAccessTokenWithoutToken() {
+        tokenManager.getAccessToken();
+    }
+
+    @Test
+    public void getAccessTokenWithValidToken() {
+        oauthSettings.setToken(createToken(3600));
+
+        assertEquals(EXPECTED_ACCESS_TOKEN, tokenManager.getAccessToken());
+        assertEquals(0, refreshes.get());
+    }
+
+    @Test
+    public void getAccessTokenRefreshesExpiringTokenOnce() throws Exception {
+        oauthSettings.setToken(createToken(5));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<String>> accessTokens = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            accessTokens.add(executorService.submit((Callable<String>) () -> {
+                startLatch.await();
+                return tokenManager.getAccessToken();
+            }));
+        }
+        startLatch.countDown();
+
+        for (Future<String> accessToken : accessTokens) {
+            assertEquals(EXPECTED_REFRESHED_ACCESS_TOKEN, accessToken.get());
+        }
+        executorService.shutdown();
+
+        assertEquals(1, refreshes.get());
+        assertEquals(1, callbacks.get());
+        assertEquals(EXPECTED_REFRESH_TOKEN, oauthSettings.getToken().getRefreshToken());
+    }
+
+    @Test
+    public void getAccessTokenSchedulesBackgroundRefresh() {
+        oauthSettings.setToken(createToken(30));
+
+        assertEquals(EXPECTED_ACCESS_TOKEN, tokenManager.getAccessToken());
+        assertEquals(0, refreshes.get());
+
+        testScheduler.triggerActions();
+
+        assertEquals(1, refreshes.get());
+        assertEquals(EXPECTED_REFRESHED_ACCESS_TOKEN, tokenManager.getAccessToken());
+        assertEquals(1, refreshes.get());
+    }
+
+    @Test
+    public void refreshRejectedAccessToken() {
+        oauthSettings.setToken(createToken(3600));
+
+        assertEquals(EXPECTED_REFRESHED_ACCESS_TOKEN,
+            tokenManager.refreshRejectedAccessToken(EXPECTED_ACCESS_TOKEN));
+        assertEquals(1, refreshes.get());
+
+        // the rejected token was already replaced
+        assertEquals(EXPECTED_REFRESHED_ACCESS_TOKEN,
+            tokenManager.refreshRejectedAccessToken(EXPECTED_ACCESS_TOKEN));
+        assertEquals(1, refreshes.get());
+    }
+
+    @Test(expected = BynderRuntimeException.class)
+    public void refreshRejectedAccessTokenWhenRefresherFails() {
+        oauthSettings.setToken(createToken(3600));
+        tokenManager = new TokenManager(oauthSettings, () -> {
+            throw new Exception();
+        }, testScheduler);
+
+        tokenManager.refreshRejectedAccessToken(EXPECTED_ACCESS_TOKEN);
+    }
+
+    private static Token createToken(final int expiresIn) {
+        return new Token(EXPECTED_ACCESS_TOKEN, expiresIn, null, null, EXPECTED_REFRESH_TOKEN)
+            .withAccessTokenExpiration();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ *
+ * JUnit framework component copyright (c) 2002-2017 JUnit. All Rights Reserved. Licensed under
+ * Eclipse Public License - v 1.0. You may obtain a copy of the License at
+ * https://www.eclipse.org/legal/epl-v10.html.
+ */
+package com.bynder.sdk.service.upload;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ChunkSizeEstimator} class methods.
+ */
+public class ChunkSizeEstimatorTest {
+
+    public static final int MB = 1024 * 1024;
+    public static final int MIN_CHUNK_SIZE = 5 * MB;
+    public static final long FILE_SIZE = 8L * 1024 * MB;
+
+    private ChunkSizeEstimator chunkSizeEstimator;
+
+    @Before
+    public void setUp() {
+        chunkSizeEstimator = new ChunkSizeEstimator();
+    }
+
+    @Test
+    public void getChunkSizeWithoutMeasurements() {
+        assertEquals(MIN_CHUNK_SIZE, chunkSizeEstimator.getChunkSize(FILE_SIZE, MIN_CHUNK_SIZE, 1));
+    }
+
+    @Test
+    public void getChunkSizeGrowsWithThroughput() {
+        // 5 MB in 250 ms, 20 MB per second
+        chunkSizeEstimator.recordChunk(MIN_CHUNK_SIZE, TimeUnit.MILLISECONDS.toNanos(250));
+
+        assertEquals(100 * MB, chunkSizeEstimator.getChunkSize(FILE_SIZE, MIN_CHUNK_SIZE, 1));
+        // enough chunks are kept to upload them in parallel
+        assertEquals(25 * MB,
+            chunkSizeEstimator.getChunkSize(100 * MB, MIN_CHUNK_SIZE, 4));
+    }
+
+    @Test
+    public void getChunkSizeIsLimited() {
+        chunkSizeEstimator.recordChunk(MIN_CHUNK_SIZE, TimeUnit.MILLISECONDS.toNanos(1));
+
+        assertEquals(ChunkSizeEstimator.MAX_CHUNK_SIZE,
+            chunkSizeEstimator.getChunkSize(FILE_SIZE, MIN_CHUNK_SIZE, 1));
+    }
+
+    @Test
+    public void recordChunkSmoothsThroughput() {
+        chunkSizeEstimator.recordChunk(10 * MB, TimeUnit.SECONDS.toNanos(1));
+        chunkSizeEstimator.recordChunk(20 * MB, TimeUnit.SECONDS.toNanos(1));
+
+        assertEquals(13 * MB, chunkSizeEstimator.getBytesPerSecond(), 1);
+    }
+}
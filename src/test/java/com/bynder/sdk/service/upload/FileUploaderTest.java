@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ *
+ * JUnit framework component copyright (c) 2002-2017 JUnit. All Rights Reserved. Licensed under
+ * Eclipse Public License - v 1.0. You may obtain a copy of the License at
+ * https://www.eclipse.org/legal/epl-v10.html.
+ */
+package com.bynder.sdk.service.upload;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bynder.sdk.api.AmazonS3Api;
+import com.bynder.sdk.api.AmazonS3ApiCache;
+import com.bynder.sdk.api.ApiFactory;
+import com.bynder.sdk.api.BynderApi;
+import com.bynder.sdk.configuration.HttpConnectionSettings;
+import com.bynder.sdk.configuration.PollingSettings;
+import com.bynder.sdk.configuration.RetryPolicy;
+import com.bynder.sdk.exception.BynderUploadException;
+import com.bynder.sdk.model.upload.FinaliseResponse;
+import com.bynder.sdk.model.upload.PollStatus;
+import com.bynder.sdk.model.upload.SaveMediaResponse;
+import com.bynder.sdk.model.upload.UploadJournalEntry;
+import com.bynder.sdk.model.upload.UploadProgress;
+import com.bynder.sdk.model.upload.UploadRequest;
+import com.bynder.sdk.model.upload.UploadSource;
+import com.bynder.sdk.query.decoder.QueryDecoder;
+import com.bynder.sdk.query.upload.UploadQuery;
+import com.google.gson.Gson;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.plugins.RxJavaPlugins;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.SocketTimeoutException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import okhttp3.ResponseBody;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import retrofit2.HttpException;
+import retrofit2.Response;
+
+/**
+ * Tests the {@link FileUploader} class methods.
+ */
+public class FileUploaderTest {
+
+    public static final String S3_ENDPOINT = "https://bucket.s3.amazonaws.com/";
+    public static final String BRAND_ID = "brandId";
+    public static final String IMPORT_ID = "importId";
+    public static final int CHUNK_SIZE = 1024 * 1024 * 5;
+    public static final long FILE_LENGTH = CHUNK_SIZE * 2L + 1;
+    public static final String UPLOAD_REQUEST_JSON = "{\"s3_filename\":\"s3Filename\","
+        + "\"s3file\":{\"uploadid\":\"uploadId\",\"targetid\":\"targetId\"},"
+        + "\"multipart_params\":{\"x-amz-credential\":\"credential\",\"Policy\":\"policy\","
+        + "\"success_action_status\":\"201\",\"key\":\"key\",\"X-Amz-Signature\":\"signature\","
+        + "\"Content-Type\":\"image/jpeg\",\"acl\":\"private\",\"x-amz-algorithm\":\"algorithm\","
+        + "\"x-amz-date\":\"date\"}}";
+    public static final RetryPolicy CHUNK_RETRY_POLICY = new RetryPolicy(3, 0, 0, 1, 0,
+        Collections.singleton(503));
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    @Mock
+    private BynderApi bynderApi;
+    @Mock
+    private AmazonS3ApiCache amazonS3ApiCache;
+    @Mock
+    private AmazonS3Api amazonS3Api;
+    private FileUploader fileUploader;
+    private UploadRequest uploadRequest;
+    private File file;
+
+    @Before
+    public void setUp() throws Exception {
+        MockitoAnnotations.initMocks(this);
+        Gson gson = new Gson();
+        uploadRequest = gson.fromJson(UPLOAD_REQUEST_JSON, UploadRequest.class);
+
+        file = temporaryFolder.newFile("file.jpg");
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.setLength(FILE_LENGTH);
+        }
+
+        when(amazonS3ApiCache.get(S3_ENDPOINT)).thenReturn(amazonS3Api);
+        when(amazonS3Api.uploadPartToAmazon(anyMap()))
+            .thenReturn(Observable.fromCallable(() -> Response.success((Void) null)));
+        when(bynderApi.getClosestS3Endpoint())
+            .thenReturn(Observable.just(Response.success(S3_ENDPOINT)));
+        when(bynderApi.getUploadInformation(anyMap()))
+            .thenReturn(Observable.just(Response.success(uploadRequest)));
+        when(bynderApi.registerChunk(anyMap()))
+            .thenReturn(Observable.fromCallable(() -> Response.success((Void) null)));
+        when(bynderApi.finaliseUpload(anyMap())).thenReturn(Observable.just(Response.success(
+            gson.fromJson("{\"importId\":\"importId\"}", FinaliseResponse.class))));
+        when(bynderApi.getPollStatus(anyMap())).thenReturn(Observable.just(Response.success(
+            gson.fromJson("{\"itemsDone\":[\"importId\"],\"itemsFailed\":[],"
+                + "\"itemsRejected\":[]}", PollStatus.class))));
+        when(bynderApi.saveMedia(anyMap())).thenReturn(Observable.just(Response.success(
+            gson.fromJson("{\"mediaid\":\"mediaId\"}", SaveMediaResponse.class))));
+
+        fileUploader = new FileUploader(bynderApi, new QueryDecoder(), amazonS3ApiCache);
+    }
+
+    @Test
+    public void uploadFileWithParallelChunks() {
+        List<UploadProgress> uploadProgresses = fileUploader.uploadFileWithProgress(
+            new UploadQuery(file.getPath(), BRAND_ID).setChunkParallelism(3)).toList()
+            .blockingGet();
+
+        UploadProgress uploadProgress = uploadProgresses.get(uploadProgresses.size() - 1);
+        assertTrue(uploadProgress.isFinished());
+        assertEquals(3, uploadProgress.getUploadedChunks());
+        assertEquals(FILE_LENGTH, uploadProgress.getTransmittedBytes());
+        assertEquals("mediaId", uploadProgress.getSaveMediaResponse().getMediaId());
+
+        verify(amazonS3ApiCache, times(1)).get(S3_ENDPOINT);
+        verify(amazonS3Api, times(3)).uploadPartToAmazon(anyMap());
+        verify(bynderApi, times(3)).registerChunk(anyMap());
+        assertEquals("3", captureFinaliseParameters().get("chunks"));
+    }
+
+    @Test
+    public void uploadFileWithChunkSize() {
+        UploadProgress uploadProgress = fileUploader.uploadFileWithProgress(
+            new UploadQuery(file.getPath(), BRAND_ID).setChunkSize(CHUNK_SIZE * 3))
+            .blockingLast();
+
+        assertTrue(uploadProgress.isFinished());
+        assertEquals(1, uploadProgress.getUploadedChunks());
+        verify(amazonS3Api, times(1)).uploadPartToAmazon(anyMap());
+    }
+
+    @Test
+    public void uploadFileFromInputStream() throws Exception {
+        File journalDirectory = temporaryFolder.newFolder();
+        UploadJournal uploadJournal = new UploadJournal(journalDirectory);
+        UploadProgress uploadProgress = fileUploader.uploadFileWithProgress(
+            new UploadQuery(UploadSource.fromInputStream("stream.jpg",
+                new ByteArrayInputStream(new byte[(int) FILE_LENGTH]), FILE_LENGTH), BRAND_ID)
+                .setChunkParallelism(3).setUploadJournal(uploadJournal)).blockingLast();
+
+        assertTrue(uploadProgress.isFinished());
+        assertEquals(3, uploadProgress.getUploadedChunks());
+        assertEquals(FILE_LENGTH, uploadProgress.getTransmittedBytes());
+        verify(amazonS3Api, times(3)).uploadPartToAmazon(anyMap());
+        assertEquals("3", captureFinaliseParameters().get("chunks"));
+        assertEquals(0, journalDirectory.list().length);
+    }
+
+    @Test
+    public void uploadFileClosesSourceOnFailure() {
+        when(bynderApi.getUploadInformation(anyMap()))
+            .thenReturn(Observable.error(new SocketTimeoutException()));
+        AtomicBoolean closed = new AtomicBoolean();
+        InputStream inputStream = new ByteArrayInputStream(new byte[(int) FILE_LENGTH]) {
+
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        TestObserver<UploadProgress> testObserver = fileUploader.uploadFileWithProgress(
+            new UploadQuery(UploadSource.fromInputStream("stream.jpg", inputStream, FILE_LENGTH),
+                BRAND_ID)).test();
+
+        testObserver.awaitTerminalEvent();
+        testObserver.assertError(SocketTimeoutException.class);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void uploadFileResumesFromJournal() throws Exception {
+        UploadJournal uploadJournal = new UploadJournal(temporaryFolder.newFolder());
+        uploadJournal.save(file, new UploadJournalEntry(file, CHUNK_SIZE, uploadRequest));
+        uploadJournal.addCompletedChunk(file, 1);
+        uploadJournal.addCompletedChunk(file, 3);
+
+        UploadProgress uploadProgress = fileUploader.uploadFileWithProgress(
+            new UploadQuery(file.getPath(), BRAND_ID).setUploadJournal(uploadJournal))
+            .blockingLast();
+
+        assertTrue(uploadProgress.isFinished());
+        assertEquals(3, uploadProgress.getUploadedChunks());
+        assertEquals(FILE_LENGTH, uploadProgress.getTransmittedBytes());
+
+        verify(bynderApi, never()).getUploadInformation(anyMap());
+        verify(amazonS3Api, times(1)).uploadPartToAmazon(anyMap());
+        verify(bynderApi, times(1)).registerChunk(anyMap());
+        assertEquals("3", captureFinaliseParameters().get("chunks"));
+        assertNull(uploadJournal.load(file));
+    }
+
+    @Test
+    public void uploadFileRecordsCompletedChunksInJournal() throws Exception {
+        UploadJournal uploadJournal = new UploadJournal(temporaryFolder.newFolder());
+        when(bynderApi.finaliseUpload(anyMap()))
+            .thenReturn(Observable.error(new SocketTimeoutException()));
+
+        fileUploader.uploadFileWithProgress(
+            new UploadQuery(file.getPath(), BRAND_ID).setUploadJournal(uploadJournal))
+            .onErrorResumeNext(Observable.empty()).blockingSubscribe();
+
+        UploadJournalEntry uploadJournalEntry = uploadJournal.load(file);
+        assertFalse(uploadJournalEntry.getCompletedChunks().isEmpty());
+        assertEquals(3, uploadJournalEntry.getCompletedChunks().size());
+    }
+
+    @Test
+    public void uploadFilePollsUntilConverted() {
+        Gson gson = new Gson();
+        when(bynderApi.getPollStatus(anyMap())).thenReturn(
+            Observable.just(Response.success(gson.fromJson("{}", PollStatus.class))),
+            Observable.just(Response.success(gson.fromJson("{\"itemsDone\":[\"importId\"]}",
+                PollStatus.class))));
+
+        UploadProgress uploadProgress = fileUploader.uploadFileWithProgress(
+            new UploadQuery(file.getPath(), BRAND_ID)
+                .setPollingSettings(new PollingSettings(1, 2, 2, 100))).blockingLast();
+
+        assertTrue(uploadProgress.isFinished());
+        verify(bynderApi, times(2)).getPollStatus(anyMap());
+    }
+
+    @Test
+    public void uploadFileStopsPollingAfterMaxWait() {
+        when(bynderApi.getPollStatus(anyMap())).thenReturn(
+            Observable.just(Response.success(new Gson().fromJson("{}", PollStatus.class))));
+
+        TestObserver<UploadProgress> testObserver = fileUploader.uploadFileWithProgress(
+            new UploadQuery(file.getPath(), BRAND_ID)
+                .setPollingSettings(new PollingSettings(1, 4, 2, 10))).test();
+
+        testObserver.awaitTerminalEvent();
+        testObserver.assertError(BynderUploadException.class);
+        // polls after 0, 1, 3 and 7 milliseconds, the next one would exceed the max wait
+        verify(bynderApi, times(4)).getPollStatus(anyMap());
+        verify(bynderApi, never()).saveMedia(anyMap());
+    }
+
+    @Test
+    public void uploadFileRetriesFailedChunk() {
+        when(amazonS3Api.uploadPartToAmazon(anyMap())).thenReturn(
+            Observable.error(new SocketTimeoutException()),
+            Observable.fromCallable(() -> Response.success((Void) null)));
+        when(bynderApi.registerChunk(anyMap())).thenReturn(
+            Observable.just(Response.<Void>error(503, ResponseBody.create(null, ""))),
+            Observable.fromCallable(() -> Response.success((Void) null)));
+
+        UploadProgress uploadProgress = fileUploader.uploadFileWithProgress(
+            new UploadQuery(file.getPath(), BRAND_ID).setChunkRetryPolicy(CHUNK_RETRY_POLICY))
+            .blockingLast();
+
+        assertTrue(uploadProgress.isFinished());
+        assertEquals(3, uploadProgress.getUploadedChunks());
+        assertEquals(FILE_LENGTH, uploadProgress.getTransmittedBytes());
+        verify(amazonS3Api, times(5)).uploadPartToAmazon(anyMap());
+        verify(bynderApi, times(4)).registerChunk(anyMap());
+    }
+
+    @Test
+    public void uploadFileFailsOnPermanentChunkError() {
+        when(bynderApi.registerChunk(anyMap())).thenReturn(
+            Observable.just(Response.<Void>error(403, ResponseBody.create(null, ""))));
+
+        TestObserver<UploadProgress> testObserver = fileUploader.uploadFileWithProgress(
+            new UploadQuery(file.getPath(), BRAND_ID).setChunkParallelism(1)
+                .setChunkRetryPolicy(CHUNK_RETRY_POLICY)).test();
+
+        testObserver.awaitTerminalEvent();
+        testObserver.assertError(HttpException.class);
+        verify(bynderApi, times(1)).registerChunk(anyMap());
+        verify(bynderApi, never()).finaliseUpload(anyMap());
+    }
+
+    @Test
+    public void uploadFileRemovesJournalEntryWhenResumeIsRejected() throws Exception {
+        UploadJournal uploadJournal = new UploadJournal(temporaryFolder.newFolder());
+        uploadJournal.save(file, new UploadJournalEntry(file, CHUNK_SIZE, uploadRequest));
+        uploadJournal.addCompletedChunk(file, 1);
+        when(amazonS3Api.uploadPartToAmazon(anyMap())).thenReturn(
+            Observable.just(Response.<Void>error(404, ResponseBody.create(null, ""))));
+
+        TestObserver<UploadProgress> testObserver = fileUploader.uploadFileWithProgress(
+            new UploadQuery(file.getPath(), BRAND_ID).setUploadJournal(uploadJournal)
+                .setChunkRetryPolicy(CHUNK_RETRY_POLICY)).test();
+
+        testObserver.awaitTerminalEvent();
+        testObserver.assertError(HttpException.class);
+        assertNull(uploadJournal.load(file));
+    }
+
+    @Test
+    public void uploadFileStopsWhenDisposed() throws Exception {
+        List<Throwable> undeliverableErrors = new CopyOnWriteArrayList<>();
+        RxJavaPlugins.setErrorHandler(undeliverableErrors::add);
+        try {
+            when(amazonS3Api.uploadPartToAmazon(anyMap())).thenReturn(
+                Observable.fromCallable(() -> Response.success((Void) null)),
+                Observable.timer(200, TimeUnit.MILLISECONDS)
+                    .flatMap(tick -> Observable.error(new SocketTimeoutException())));
+
+            TestObserver<UploadProgress> testObserver = fileUploader.uploadFileWithProgress(
+                new UploadQuery(file.getPath(), BRAND_ID).setChunkParallelism(1)
+                    .setChunkRetryPolicy(CHUNK_RETRY_POLICY)).test();
+            verify(amazonS3Api, timeout(1000).times(2)).uploadPartToAmazon(anyMap());
+            testObserver.dispose();
+            Thread.sleep(500);
+
+            verify(amazonS3Api, times(2)).uploadPartToAmazon(anyMap());
+            verify(bynderApi, times(1)).registerChunk(anyMap());
+            verify(bynderApi, never()).finaliseUpload(anyMap());
+            assertTrue(undeliverableErrors.isEmpty());
+        } finally {
+            RxJavaPlugins.reset();
+        }
+    }
+
+    @Test
+    public void uploadFileRetriesChunkOnlyOnce() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            for (int i = 0; i < 9; i++) {
+                server.enqueue(new MockResponse().setResponseCode(503));
+            }
+            when(bynderApi.getClosestS3Endpoint())
+                .thenReturn(Observable.just(Response.success(server.url("/").toString())));
+            // S3 clients derived from a root client carrying the default retry interceptor
+            fileUploader = new FileUploader(bynderApi, new QueryDecoder(), new AmazonS3ApiCache(
+                ApiFactory.createRootOkHttpClient(new HttpConnectionSettings())));
+
+            TestObserver<UploadProgress> testObserver = fileUploader.uploadFileWithProgress(
+                new UploadQuery(file.getPath(), BRAND_ID).setChunkParallelism(1)
+                    .setChunkRetryPolicy(CHUNK_RETRY_POLICY)).test();
+
+            testObserver.awaitTerminalEvent();
+            testObserver.assertError(HttpException.class);
+            assertEquals(CHUNK_RETRY_POLICY.getMaxAttempts(), server.getRequestCount());
+            verify(bynderApi, never()).registerChunk(anyMap());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> captureFinaliseParameters() {
+        ArgumentCaptor<Map<String, String>> paramsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(bynderApi).finaliseUpload(paramsCaptor.capture());
+        return paramsCaptor.getValue();
+    }
+}
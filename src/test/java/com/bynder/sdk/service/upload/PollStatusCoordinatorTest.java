@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ *
+ * JUnit framework component copyright (c) 2002-2017 JUnit. All Rights Reserved. Licensed under
+ * Eclipse Public License - v 1.0. You may obtain a copy of the License at
+ * https://www.eclipse.org/legal/epl-v10.html.
+ */
+package com.bynder.sdk.service.upload;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bynder.sdk.api.BynderApi;
+import com.bynder.sdk.model.upload.PollStatus;
+import com.bynder.sdk.query.decoder.QueryDecoder;
+import com.google.gson.Gson;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import retrofit2.Response;
+
+/**
+ * Tests the {@link PollStatusCoordinator} class methods.
+ */
+public class PollStatusCoordinatorTest {
+
+    public static final long BATCH_WINDOW_MILLIS = 100;
+
+    @Mock
+    private BynderApi bynderApi;
+    private TestScheduler testScheduler;
+    private PollStatusCoordinator pollStatusCoordinator;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        testScheduler = new TestScheduler();
+        pollStatusCoordinator = new PollStatusCoordinator(bynderApi, new QueryDecoder(),
+            BATCH_WINDOW_MILLIS, testScheduler);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void getPollStatusBatchesConcurrentPolls() {
+        Response<PollStatus> pollStatusResponse = Response.success(
+            new Gson().fromJson("{\"itemsDone\":[\"importId1\"]}", PollStatus.class));
+        when(bynderApi.getPollStatus(anyMap())).thenReturn(Observable.just(pollStatusResponse));
+
+        TestObserver<Response<PollStatus>> firstObserver = pollStatusCoordinator
+            .getPollStatus("importId1").test();
+        TestObserver<Response<PollStatus>> secondObserver = pollStatusCoordinator
+            .getPollStatus("importId2").test();
+        TestObserver<Response<PollStatus>> thirdObserver = pollStatusCoordinator
+            .getPollStatus("importId1").test();
+        verify(bynderApi, never()).getPollStatus(anyMap());
+
+        testScheduler.advanceTimeBy(BATCH_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+        ArgumentCaptor<Map<String, String>> paramsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(bynderApi, times(1)).getPollStatus(paramsCaptor.capture());
+        assertEquals("importId1,importId2", paramsCaptor.getValue().get("items"));
+        firstObserver.assertResult(pollStatusResponse);
+        secondObserver.assertResult(pollStatusResponse);
+        thirdObserver.assertResult(pollStatusResponse);
+    }
+
+    @Test
+    public void getPollStatusStartsNewBatchAfterWindow() {
+        when(bynderApi.getPollStatus(anyMap())).thenReturn(
+            Observable.just(Response.success(new Gson().fromJson("{}", PollStatus.class))));
+
+        pollStatusCoordinator.getPollStatus("importId1").test();
+        testScheduler.advanceTimeBy(BATCH_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+        pollStatusCoordinator.getPollStatus("importId2").test();
+        testScheduler.advanceTimeBy(BATCH_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+        verify(bynderApi, times(2)).getPollStatus(anyMap());
+    }
+
+    @Test
+    public void getPollStatusPropagatesErrorToAllPolls() {
+        when(bynderApi.getPollStatus(anyMap())).thenReturn(Observable.error(new IOException()));
+
+        TestObserver<Response<PollStatus>> firstObserver = pollStatusCoordinator
+            .getPollStatus("importId1").test();
+        TestObserver<Response<PollStatus>> secondObserver = pollStatusCoordinator
+            .getPollStatus("importId2").test();
+        testScheduler.advanceTimeBy(BATCH_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+        firstObserver.assertError(IOException.class);
+        secondObserver.assertError(IOException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void getPollStatusSplitsLargeBatches() {
+        when(bynderApi.getPollStatus(anyMap())).thenReturn(
+            Observable.just(Response.success(new Gson().fromJson("{}", PollStatus.class))));
+
+        List<TestObserver<Response<PollStatus>>> observers = new ArrayList<>();
+        for (int i = 0; i < PollStatusCoordinator.MAX_BATCH_SIZE * 2 + 1; i++) {
+            observers.add(pollStatusCoordinator.getPollStatus("importId" + i).test());
+        }
+        testScheduler.advanceTimeBy(BATCH_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+        ArgumentCaptor<Map<String, String>> paramsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(bynderApi, times(3)).getPollStatus(paramsCaptor.capture());
+        assertEquals(PollStatusCoordinator.MAX_BATCH_SIZE,
+            paramsCaptor.getAllValues().get(0).get("items").split(",").length);
+        assertEquals("importId" + PollStatusCoordinator.MAX_BATCH_SIZE * 2,
+            paramsCaptor.getAllValues().get(2).get("items"));
+        for (TestObserver<Response<PollStatus>> observer : observers) {
+            observer.assertComplete();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void getPollStatusDropsDisposedPolls() {
+        when(bynderApi.getPollStatus(anyMap())).thenReturn(
+            Observable.just(Response.success(new Gson().fromJson("{}", PollStatus.class))));
+
+        pollStatusCoordinator.getPollStatus("importId1").test().dispose();
+        TestObserver<Response<PollStatus>> secondObserver = pollStatusCoordinator
+            .getPollStatus("importId2").test();
+        testScheduler.advanceTimeBy(BATCH_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+        ArgumentCaptor<Map<String, String>> paramsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(bynderApi, times(1)).getPollStatus(paramsCaptor.capture());
+        assertEquals("importId2", paramsCaptor.getValue().get("items"));
+        secondObserver.assertComplete();
+
+        pollStatusCoordinator.getPollStatus("importId3").test().dispose();
+        testScheduler.advanceTimeBy(BATCH_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+        verify(bynderApi, times(1)).getPollStatus(anyMap());
+    }
+
+    @Test
+    public void getPollStatusFailsPollsWhenRequestCannotBeSent() {
+        when(bynderApi.getPollStatus(anyMap())).thenThrow(new IllegalStateException());
+
+        TestObserver<Response<PollStatus>> firstObserver = pollStatusCoordinator
+            .getPollStatus("importId1").test();
+        TestObserver<Response<PollStatus>> secondObserver = pollStatusCoordinator
+            .getPollStatus("importId2").test();
+        testScheduler.advanceTimeBy(BATCH_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+        firstObserver.assertError(IllegalStateException.class);
+        secondObserver.assertError(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ *
+ * JUnit framework component copyright (c) 2002-2017 JUnit. All Rights Reserved. Licensed under
+ * Eclipse Public License - v 1.0. You may obtain a copy of the License at
+ * https://www.eclipse.org/legal/epl-v10.html.
+ */
+package com.bynder.sdk.service.upload;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.bynder.sdk.model.upload.UploadJournalEntry;
+import com.bynder.sdk.model.upload.UploadRequest;
+import com.google.gson.Gson;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.UUID;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the {@link UploadJournal} class methods.
+ */
+public class UploadJournalTest {
+
+    public static final int CHUNK_SIZE = 4;
+    public static final String UPLOAD_REQUEST_JSON = "{\"s3_filename\":\"s3Filename\","
+        + "\"s3file\":{\"uploadid\":\"uploadId\",\"targetid\":\"targetId\"}}";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    private File file;
+    private UploadJournal uploadJournal;
+    private UploadRequest uploadRequest;
+
+    @Before
+    public void setUp() throws Exception {
+        file = temporaryFolder.newFile();
+        Files.write(file.toPath(), "0123456789".getBytes(StandardCharsets.UTF_8));
+        uploadJournal = new UploadJournal(new File(temporaryFolder.getRoot(), "journal"));
+        uploadRequest = new Gson().fromJson(UPLOAD_REQUEST_JSON, UploadRequest.class);
+    }
+
+    @Test
+    public void loadWithoutEntry() throws Exception {
+        assertNull(uploadJournal.load(file));
+    }
+
+    @Test
+    public void saveAndLoadEntryWithCompletedChunks() throws Exception {
+        uploadJournal.save(file, new UploadJournalEntry(file, CHUNK_SIZE, uploadRequest));
+        uploadJournal.addCompletedChunk(file, 3);
+        uploadJournal.addCompletedChunk(file, 1);
+
+        UploadJournalEntry uploadJournalEntry = uploadJournal.load(file);
+
+        assertNotNull(uploadJournalEntry);
+        assertEquals(file.getAbsolutePath(), uploadJournalEntry.getFilePath());
+        assertEquals(file.length(), uploadJournalEntry.getFileSize());
+        assertEquals("s3Filename", uploadJournalEntry.getUploadRequest().getS3Filename());
+        assertEquals("uploadId", uploadJournalEntry.getUploadRequest().getS3File().getUploadId());
+        assertEquals(new HashSet<>(Arrays.asList(1, 3)), uploadJournalEntry.getCompletedChunks());
+    }
+
+    @Test
+    public void loadEntryOfModifiedFile() throws Exception {
+        uploadJournal.save(file, new UploadJournalEntry(file, CHUNK_SIZE, uploadRequest));
+        uploadJournal.addCompletedChunk(file, 1);
+        Files.write(file.toPath(), "012345678".getBytes(StandardCharsets.UTF_8));
+
+        assertNull(uploadJournal.load(file));
+        assertTrue(new File(temporaryFolder.getRoot(), "journal").list().length == 0);
+    }
+
+    @Test
+    public void loadEntryWithAnyChunkSize() throws Exception {
+        uploadJournal.save(file, new UploadJournalEntry(file, CHUNK_SIZE * 2, uploadRequest));
+
+        assertEquals(CHUNK_SIZE * 2, uploadJournal.load(file).getChunkSize());
+    }
+
+    @Test
+    public void loadEntryIgnoresTruncatedChunk() throws Exception {
+        uploadJournal.save(file, new UploadJournalEntry(file, CHUNK_SIZE, uploadRequest));
+        uploadJournal.addCompletedChunk(file, 1);
+        Files.write(new File(temporaryFolder.getRoot(), "journal").toPath()
+            .resolve(UUID.nameUUIDFromBytes(
+                file.getAbsolutePath().getBytes(StandardCharsets.UTF_8)) + ".chunks"),
+            "2".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(Collections.singleton(1), uploadJournal.load(file).getCompletedChunks());
+    }
+
+    @Test
+    public void saveNewEntryDiscardsCompletedChunks() throws Exception {
+        uploadJournal.save(file, new UploadJournalEntry(file, CHUNK_SIZE, uploadRequest));
+        uploadJournal.addCompletedChunk(file, 1);
+        uploadJournal.save(file, new UploadJournalEntry(file, CHUNK_SIZE, uploadRequest));
+
+        assertTrue(uploadJournal.load(file).getCompletedChunks().isEmpty());
+    }
+
+    @Test
+    public void removeEntry() throws Exception {
+        uploadJournal.save(file, new UploadJournalEntry(file, CHUNK_SIZE, uploadRequest));
+        uploadJournal.addCompletedChunk(file, 1);
+        uploadJournal.remove(file);
+
+        assertNull(uploadJournal.load(file));
+    }
+}
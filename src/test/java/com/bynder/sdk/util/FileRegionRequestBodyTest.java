@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ *
+ * JUnit framework component copyright (c) 2002-2017 JUnit. All Rights Reserved. Licensed under
+ * Eclipse Public License - v 1.0. You may obtain a copy of the License at
+ * https://www.eclipse.org/legal/epl-v10.html.
+ */
+package com.bynder.sdk.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import okhttp3.MediaType;
+import okio.Buffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the {@link FileRegionRequestBody} class methods.
+ */
+public class FileRegionRequestBodyTest {
+
+    public static final MediaType CONTENT_TYPE = MediaType.parse("multipart/form-data");
+    public static final String FILE_CONTENT = "0123456789";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    private File file;
+
+    @Before
+    public void setUp() throws Exception {
+        file = temporaryFolder.newFile();
+        Files.write(file.toPath(), FILE_CONTENT.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeRegionTwice() throws Exception {
+        try (FileInputStream fileInputStream = new FileInputStream(file)) {
+            FileChannel fileChannel = fileInputStream.getChannel();
+            FileRegionRequestBody requestBody = new FileRegionRequestBody(CONTENT_TYPE,
+                fileChannel, 3, 4);
+
+            assertEquals(CONTENT_TYPE, requestBody.contentType());
+            assertEquals(4, requestBody.contentLength());
+
+            Buffer buffer = new Buffer();
+            requestBody.writeTo(buffer);
+            assertEquals("3456", buffer.readUtf8());
+
+            requestBody.writeTo(buffer);
+            assertEquals("3456", buffer.readUtf8());
+            assertEquals(0, fileChannel.position());
+        }
+    }
+
+    @Test(expected = EOFException.class)
+    public void writeRegionBeyondEndOfFile() throws Exception {
+        try (FileInputStream fileInputStream = new FileInputStream(file)) {
+            new FileRegionRequestBody(CONTENT_TYPE, fileInputStream.getChannel(), 8, 4)
+                .writeTo(new Buffer());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2019 Bynder B.V. All rights reserved.
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for full license
+ * information.
+ *
+ * JUnit framework component copyright (c) 2002-2017 JUnit. All Rights Reserved. Licensed under
+ * Eclipse Public License - v 1.0. You may obtain a copy of the License at
+ * https://www.eclipse.org/legal/epl-v10.html.
+ */
+package com.bynder.sdk.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.bynder.sdk.api.ApiFactory;
+import com.bynder.sdk.model.Media;
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import io.reactivex.subscribers.TestSubscriber;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link JsonArrayFlowable} class methods.
+ */
+public class JsonArrayFlowableTest {
+
+    public static final MediaType CONTENT_TYPE = MediaType.parse("application/json");
+    public static final String MEDIA_LIST_JSON = "[{\"id\":\"mediaId1\",\"isPublic\":1},"
+        + "{\"id\":\"mediaId2\",\"isPublic\":0},{\"id\":\"mediaId3\"}]";
+
+    private Gson gson;
+    private boolean isClosed;
+
+    @Before
+    public void setUp() {
+        gson = ApiFactory.createGson();
+        isClosed = false;
+    }
+
+    @Test
+    public void createReadsAllElements() {
+        List<Media> mediaList = JsonArrayFlowable
+            .create(createResponseBody(MEDIA_LIST_JSON), gson, Media.class).toList().blockingGet();
+
+        assertEquals(3, mediaList.size());
+        assertEquals("mediaId1", mediaList.get(0).getId());
+        assertTrue(mediaList.get(0).isPublic());
+        assertEquals("mediaId3", mediaList.get(2).getId());
+        assertTrue(isClosed);
+    }
+
+    @Test
+    public void createReadsElementsOnRequest() {
+        TestSubscriber<String> testSubscriber = JsonArrayFlowable
+            .create(createResponseBody(MEDIA_LIST_JSON), gson, Media.class)
+            .map(Media::getId).test(1);
+
+        testSubscriber.assertValues("mediaId1");
+        testSubscriber.requestMore(1);
+        testSubscriber.assertValues("mediaId1", "mediaId2");
+        testSubscriber.cancel();
+        assertTrue(isClosed);
+    }
+
+    @Test
+    public void createWithEmptyArray() {
+        JsonArrayFlowable.create(createResponseBody("[]"), gson, Media.class).test()
+            .assertResult();
+        assertTrue(isClosed);
+    }
+
+    @Test
+    public void createWithMalformedJson() {
+        List<String> mediaIds = Arrays.asList("mediaId1");
+        JsonArrayFlowable.create(createResponseBody("[{\"id\":\"mediaId1\"},{\"id\":"), gson,
+            Media.class).map(Media::getId).test()
+            .assertValueSequence(mediaIds)
+            .assertError(throwable -> throwable instanceof IOException
+                || throwable instanceof JsonSyntaxException);
+        assertTrue(isClosed);
+    }
+
+    private ResponseBody createResponseBody(final String json) {
+        Buffer buffer = new Buffer().writeUtf8(json);
+        return ResponseBody.create(CONTENT_TYPE, json.length(),
+            Okio.buffer(new ForwardingSource(buffer) {
+                @Override
+                public void close() throws IOException {
+                    isClosed = true;
+                    super.close();
+                }
+            }));
+    }
+}